@@ -0,0 +1,102 @@
+package com.andavin.scoreboard.benchmark;
+
+import com.andavin.scoreboard.PluginHooks;
+import com.andavin.scoreboard.name.BelowName;
+import com.andavin.scoreboard.testkit.FakeServer;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BelowName#setScore(int)} for every player that
+ * is online followed by the changed scores being sent at the end
+ * of the tick.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BelowNameBenchmark {
+
+    @Param({ "10", "100" })
+    public int players;
+
+    private BelowName[] belowNames;
+    private int score;
+
+    @Setup
+    public void setup() {
+
+        FakeServer.start();
+        List<Player> online = new ArrayList<>(this.players);
+        for (int i = 0; i < this.players; i++) {
+            online.add(FakeServer.createPlayer("Player" + i));
+        }
+
+        FakeServer.setOnline(online);
+        this.belowNames = new BelowName[this.players];
+        for (int i = 0; i < this.players; i++) {
+            this.belowNames[i] = new BelowName(online.get(i), "Health");
+            this.belowNames[i].setScore(20);
+        }
+
+        PluginHooks.tick(); // Every player has every score now
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        for (BelowName belowName : this.belowNames) {
+            belowName.destroy();
+        }
+
+        FakeServer.setOnline(Collections.emptyList());
+    }
+
+    @Benchmark
+    public void unchanged() {
+
+        for (BelowName belowName : this.belowNames) {
+            belowName.setScore(20);
+        }
+
+        PluginHooks.tick();
+    }
+
+    @Benchmark
+    public void oneChanged() {
+        this.belowNames[0].setScore(++this.score);
+        PluginHooks.tick();
+    }
+
+    @Benchmark
+    public void allChanged() {
+
+        int score = ++this.score;
+        for (BelowName belowName : this.belowNames) {
+            belowName.setScore(score);
+        }
+
+        PluginHooks.tick();
+    }
+}
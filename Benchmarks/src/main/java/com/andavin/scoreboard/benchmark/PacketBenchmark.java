@@ -0,0 +1,123 @@
+package com.andavin.scoreboard.benchmark;
+
+import com.andavin.scoreboard.protocol.PacketMode;
+import com.andavin.scoreboard.protocol.Scoreboard;
+import com.andavin.scoreboard.testkit.FakeServer;
+import org.bukkit.ChatColor;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures every packet factory of the 1.12 protocol implementation
+ * in each {@link PacketMode}. Raw packets are released as soon as
+ * they are created, just as they would be once written.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketBenchmark {
+
+    private static final String OBJECTIVE = "o.1", TEAM = "l.1", MEMBER = "Player";
+    private static final String SHORT_LINE = ChatColor.GOLD + "Coins: " + ChatColor.WHITE + "1,234";
+    private static final String LONG_LINE = ChatColor.YELLOW + "Statistic Number Twelve: " + ChatColor.WHITE +
+                                            "123,456,789 " + ChatColor.GRAY + "(+5)";
+
+    @Param({ "NMS", "RAW" })
+    public PacketMode mode;
+
+    @Setup
+    public void setup() {
+        FakeServer.start();
+        Scoreboard.setPacketMode(this.mode);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Scoreboard.setPacketMode(PacketMode.NMS);
+    }
+
+    @Benchmark
+    public List<Object> createObjective() {
+        return release(Scoreboard.getCreateObjectivePackets("Scoreboard", OBJECTIVE, DisplaySlot.SIDEBAR));
+    }
+
+    @Benchmark
+    public Object displayName() {
+        return release(Scoreboard.getDisplayNamePacket("Scoreboard", OBJECTIVE));
+    }
+
+    @Benchmark
+    public Object deleteObjective() {
+        return release(Scoreboard.getDeleteObjectivePacket(OBJECTIVE));
+    }
+
+    @Benchmark
+    public Object addScore() {
+        return release(Scoreboard.getAddPacket(OBJECTIVE, SHORT_LINE, 15));
+    }
+
+    @Benchmark
+    public Object removeScore() {
+        return release(Scoreboard.getRemovePacket(OBJECTIVE, SHORT_LINE));
+    }
+
+    @Benchmark
+    public Object createLineTeam() {
+        return release(Scoreboard.getCreateTeamPacket(TEAM, LONG_LINE));
+    }
+
+    @Benchmark
+    public List<Object> updateLineTeam() {
+        return release(Scoreboard.getUpdateTeamPackets(TEAM, SHORT_LINE, LONG_LINE));
+    }
+
+    @Benchmark
+    public Object createTeam() {
+        return release(Scoreboard.getCreateTeamPacket(TEAM, ChatColor.RED + "[Admin] ", "", MEMBER));
+    }
+
+    @Benchmark
+    public Object updateTeam() {
+        return release(Scoreboard.getUpdateTeamPacket(TEAM, ChatColor.RED + "[Admin] ", ""));
+    }
+
+    @Benchmark
+    public Object addMembers() {
+        return release(Scoreboard.getAddMembersPacket(TEAM, MEMBER));
+    }
+
+    @Benchmark
+    public Object removeTeam() {
+        return release(Scoreboard.getRemoveTeamPacket(TEAM));
+    }
+
+    private static Object release(Object packet) {
+        Scoreboard.releaseShared(packet);
+        return packet;
+    }
+
+    private static List<Object> release(List<Object> packets) {
+        packets.forEach(Scoreboard::releaseShared);
+        return packets;
+    }
+}
@@ -0,0 +1,83 @@
+package com.andavin.scoreboard.benchmark;
+
+import com.andavin.scoreboard.PluginHooks;
+import com.andavin.scoreboard.name.PlayerName;
+import com.andavin.scoreboard.testkit.FakeServer;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a {@link PlayerName#update(String, String) name update}
+ * being broadcast at the end of the tick to every other player.
+ * The update packet is shared by every viewer, so the allocation
+ * rate per update should barely change with the amount of viewers.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerNameBenchmark {
+
+    private static final String DEFAULT = ChatColor.GRAY.toString(), ADMIN = ChatColor.RED + "[Admin] ";
+
+    @Param({ "10", "100", "500" })
+    public int viewers;
+
+    private PlayerName name;
+    private boolean admin;
+
+    @Setup
+    public void setup() {
+
+        FakeServer.start();
+        List<Player> players = new ArrayList<>(this.viewers + 1);
+        for (int i = 0; i <= this.viewers; i++) {
+            players.add(FakeServer.createPlayer("Player" + i));
+        }
+
+        FakeServer.setOnline(players);
+        this.name = new PlayerName(players.get(0));
+        this.name.update(DEFAULT, "");
+        PluginHooks.tick(); // Every viewer has the team now
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.name.destroy();
+        FakeServer.setOnline(Collections.emptyList());
+    }
+
+    @Benchmark
+    public void unchanged() {
+        this.name.update(this.admin ? ADMIN : DEFAULT, "");
+        PluginHooks.tick();
+    }
+
+    @Benchmark
+    public void rankChange() {
+        this.name.update((this.admin = !this.admin) ? ADMIN : DEFAULT, "");
+        PluginHooks.tick();
+    }
+}
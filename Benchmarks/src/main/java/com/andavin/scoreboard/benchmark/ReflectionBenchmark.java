@@ -0,0 +1,73 @@
+package com.andavin.scoreboard.benchmark;
+
+import com.andavin.scoreboard.testkit.FakeServer;
+import com.andavin.scoreboard.util.Reflection;
+import net.minecraft.server.v1_12_R1.PacketPlayOutScoreboardScore.EnumScoreboardAction;
+import net.minecraft.server.v1_12_R1.PacketPlayOutScoreboardScore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares filling in a score packet through {@link Field#set(Object, Object)},
+ * as the packet factories used to, with the unreflected {@link MethodHandle}
+ * setters that they use now.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReflectionBenchmark {
+
+    private static final String OBJECTIVE = "o.1", LINE = "Coins: 1,234";
+    private static final Field OBJ_NAME_FIELD, SCORE_FIELD, ACTION_FIELD;
+    // Static and final just like in the packet factories so they can be inlined
+    private static final MethodHandle OBJ_NAME, SCORE, ACTION;
+
+    static {
+        FakeServer.start();
+        OBJ_NAME_FIELD = Reflection.getField(PacketPlayOutScoreboardScore.class, "b");
+        SCORE_FIELD = Reflection.getField(PacketPlayOutScoreboardScore.class, "c");
+        ACTION_FIELD = Reflection.getField(PacketPlayOutScoreboardScore.class, "d");
+        OBJ_NAME = Reflection.getSetter(PacketPlayOutScoreboardScore.class, "b");
+        SCORE = Reflection.getSetter(PacketPlayOutScoreboardScore.class, "c");
+        ACTION = Reflection.getSetter(PacketPlayOutScoreboardScore.class, "d");
+    }
+
+    private int score;
+
+    @Benchmark
+    public Object field() {
+
+        PacketPlayOutScoreboardScore packet = new PacketPlayOutScoreboardScore(LINE);
+        Reflection.setValue(OBJ_NAME_FIELD, packet, OBJECTIVE);
+        Reflection.setValue(SCORE_FIELD, packet, ++this.score);
+        Reflection.setValue(ACTION_FIELD, packet, EnumScoreboardAction.CHANGE);
+        return packet;
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+
+        PacketPlayOutScoreboardScore packet = new PacketPlayOutScoreboardScore(LINE);
+        OBJ_NAME.invokeExact(packet, OBJECTIVE);
+        SCORE.invokeExact(packet, ++this.score);
+        ACTION.invokeExact(packet, EnumScoreboardAction.CHANGE);
+        return packet;
+    }
+}
@@ -0,0 +1,71 @@
+package com.andavin.scoreboard.benchmark;
+
+import com.andavin.scoreboard.SBPlugin;
+import com.andavin.scoreboard.sidebar.Sidebar;
+import com.andavin.scoreboard.sidebar.SidebarType;
+import com.andavin.scoreboard.testkit.FakeServer;
+import com.andavin.scoreboard.util.NoLimit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Sidebar#display(String...)} for every type of
+ * sidebar from the lines being given to the packets being sent.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SidebarBenchmark {
+
+    private static final int FRAMES = 64; // Must be a power of 2
+
+    @Param({ "SCORE", "TEAM", "FIXED" })
+    public SidebarType type;
+
+    @Param({ "STATIC", "TICKING", "REDRAW" })
+    public Workload workload;
+
+    @Param({ "15" })
+    public int lines;
+
+    private Sidebar sidebar;
+    private String[][] frames;
+    private int frame;
+
+    @Setup
+    public void setup() {
+        FakeServer.start();
+        SBPlugin.setSideBarType(this.type);
+        this.frames = this.workload.frames(this.lines, FRAMES);
+        this.sidebar = Sidebar.create(FakeServer.createPlayer("Viewer"), "Scoreboard", new NoLimit());
+        this.sidebar.display(this.frames[0]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.sidebar.destroy();
+    }
+
+    @Benchmark
+    public void display() {
+        this.sidebar.display(this.frames[++this.frame & FRAMES - 1]);
+    }
+}
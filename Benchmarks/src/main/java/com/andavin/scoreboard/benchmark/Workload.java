@@ -0,0 +1,69 @@
+package com.andavin.scoreboard.benchmark;
+
+import org.bukkit.ChatColor;
+
+/**
+ * How the lines of a sidebar change from one update to the next.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public enum Workload {
+
+    /**
+     * Nothing changes between updates.
+     */
+    STATIC,
+
+    /**
+     * A single line changes every update (e.g. a clock).
+     */
+    TICKING,
+
+    /**
+     * Every line changes every update.
+     */
+    REDRAW;
+
+    /**
+     * Create the frames of lines to display one after the
+     * other for this workload. All of the frames are created
+     * ahead of time so that creating them is not measured.
+     *
+     * @param lines The amount of lines in each frame.
+     * @param count The amount of frames to create.
+     * @return The frames of lines.
+     */
+    public String[][] frames(int lines, int count) {
+
+        String[] base = new String[lines];
+        for (int i = 0; i < lines; i++) {
+            // Mix short lines with ones that need a prefix and suffix
+            base[i] = i % 3 == 0 ? ChatColor.GRAY.toString() + ChatColor.BOLD + "Line " + i + ':' :
+                    ChatColor.YELLOW + "Statistic Number " + i + ": " + ChatColor.WHITE + (i * 1234);
+        }
+
+        String[][] frames = new String[count][];
+        for (int frame = 0; frame < count; frame++) {
+
+            switch (this) {
+                case STATIC:
+                    frames[frame] = base;
+                    break;
+                case TICKING:
+                    frames[frame] = base.clone();
+                    frames[frame][1] = ChatColor.GOLD + "Time: " + ChatColor.WHITE + "12:" + (10 + frame % 50);
+                    break;
+                case REDRAW:
+                    frames[frame] = new String[lines];
+                    for (int i = 0; i < lines; i++) {
+                        // At the front so that it is never cut off
+                        frames[frame][i] = frame + " " + base[i];
+                    }
+                    break;
+            }
+        }
+
+        return frames;
+    }
+}
@@ -0,0 +1,79 @@
+package com.andavin.scoreboard;
+
+import com.andavin.scoreboard.util.Logger;
+import com.andavin.scoreboard.util.TimeUtil;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the {@link ScoreboardModule modules} of players that have
+ * logged out, as well as shared modules that have been destroyed,
+ * and reports any that are still being referenced long
+ * after they were destroyed. A module that is never released keeps
+ * all of its lines, viewers and so on in memory for as long as the
+ * server is running.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+final class LeakDetector {
+
+    /**
+     * The amount of time that a module can still be referenced
+     * after it was destroyed before it is reported.
+     */
+    private static final long LEAK_TIME = TimeUnit.MINUTES.toMillis(5);
+    private static final Queue<Entry> WATCHED = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Start watching a module that should no longer be used.
+     *
+     * @param module The module to watch.
+     */
+    static void track(ScoreboardModule module) {
+        WATCHED.add(new Entry(module));
+    }
+
+    /**
+     * Forget every module that has been released and report
+     * every module that has been referenced for too long. A
+     * module is only ever reported once.
+     */
+    static void check() {
+
+        long now = System.currentTimeMillis();
+        Iterator<Entry> itr = WATCHED.iterator();
+        while (itr.hasNext()) {
+
+            Entry entry = itr.next();
+            if (entry.get() == null) {
+                itr.remove();
+            } else if (now - entry.time >= LEAK_TIME) {
+                itr.remove();
+                Logger.warn("{} {} is still referenced {} after it was destroyed. Make sure to drop any references to it.",
+                        entry.type, entry.uuid, TimeUtil.formatDifference(now, entry.time, true, true));
+            }
+        }
+    }
+
+    private static final class Entry extends WeakReference<ScoreboardModule> {
+
+        private final long time = System.currentTimeMillis();
+        private final UUID uuid;
+        private final String type;
+
+        Entry(ScoreboardModule module) {
+            super(module);
+            this.uuid = module.uuid;
+            this.type = module.getClass().getSimpleName();
+        }
+    }
+
+    private LeakDetector() {
+    }
+}
@@ -0,0 +1,81 @@
+package com.andavin.scoreboard;
+
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of one type of {@link ScoreboardModule} where each
+ * player can have, at most, one module. Modules are keyed by the
+ * UUID of their player, so looking up a module does not allocate
+ * anything and iterating all of the modules is as cheap as
+ * iterating the values of a map.
+ *
+ * @param <T> The type of module in the registry.
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class ModuleRegistry<T extends ScoreboardModule> {
+
+    private final Map<UUID, T> modules = new ConcurrentHashMap<>();
+
+    /**
+     * Get the module of the given player.
+     *
+     * @param player The player to get the module for.
+     * @return The module or {@code null} if the player has none.
+     */
+    @Nullable
+    public T get(@Nonnull Player player) {
+        return this.modules.get(player.getUniqueId());
+    }
+
+    /**
+     * Get the module of the player with the given UUID.
+     *
+     * @param uuid The UUID of the player to get the module for.
+     * @return The module or {@code null} if the player has none.
+     */
+    @Nullable
+    public T get(@Nonnull UUID uuid) {
+        return this.modules.get(uuid);
+    }
+
+    /**
+     * Get a view of all of the modules in this registry.
+     * The view is backed by the registry and safe to iterate
+     * while modules are added or removed.
+     *
+     * @return The modules in this registry.
+     */
+    public Collection<T> values() {
+        return this.modules.values();
+    }
+
+    /**
+     * Register a module for its player replacing any module
+     * that the player previously had.
+     *
+     * @param module The module to register.
+     * @return The module that was replaced or {@code null} if there was none.
+     */
+    @Nullable
+    public T register(@Nonnull T module) {
+        return this.modules.put(module.uuid, module);
+    }
+
+    /**
+     * Unregister a module if it is still the module that is
+     * registered for its player.
+     *
+     * @param module The module to unregister.
+     */
+    public void unregister(@Nonnull T module) {
+        this.modules.remove(module.uuid, module);
+    }
+}
@@ -0,0 +1,215 @@
+package com.andavin.scoreboard;
+
+import com.andavin.scoreboard.protocol.Scoreboard;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of a single {@link ScoreboardModule} of how often
+ * it is updated, how many of those updates are throttled and how many
+ * packets (and roughly how many bytes) it sends. Everything is also
+ * added to the totals for the whole server.
+ * <p>
+ * Every statistic is a {@link LongAdder} counter, so recording them
+ * from any thread is cheap enough to always leave on.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class ModuleStats {
+
+    // Bucket 0 is under 1 microsecond and bucket i is under 2^i microseconds
+    // The last bucket is everything that took longer than that (over 262ms)
+    private static final int BUCKETS = 20;
+    private static final AtomicLongArray DURATIONS = new AtomicLongArray(BUCKETS);
+    private static final LongAdder TOTAL_UPDATES = new LongAdder(), TOTAL_THROTTLED = new LongAdder(),
+            TOTAL_PACKETS = new LongAdder(), TOTAL_BYTES = new LongAdder();
+
+    private final LongAdder updates = new LongAdder(), throttled = new LongAdder(),
+            packets = new LongAdder(), bytes = new LongAdder();
+
+    /**
+     * Record that the module was given an update
+     * (e.g. new lines to display).
+     */
+    public void recordUpdate() {
+        this.updates.increment();
+        TOTAL_UPDATES.increment();
+    }
+
+    /**
+     * Record that an update could not be sent right away,
+     * because the module was limited.
+     */
+    public void recordThrottled() {
+        this.throttled.increment();
+        TOTAL_THROTTLED.increment();
+    }
+
+    /**
+     * Record that the given packet is about to be sent to
+     * an amount of players. This must be called before the
+     * packet is sent.
+     *
+     * @param packet The packet that will be sent.
+     * @param players The amount of players it will be sent to.
+     */
+    public void recordPacket(Object packet, int players) {
+
+        if (players > 0) {
+            this.record(players, (long) Scoreboard.estimateSize(packet) * players);
+        }
+    }
+
+    /**
+     * Record that the given packets are about to be sent to
+     * an amount of players. This must be called before the
+     * packets are sent.
+     *
+     * @param packets The packets that will be sent.
+     * @param players The amount of players they will be sent to.
+     */
+    public void recordPackets(List<?> packets, int players) {
+
+        if (players <= 0 || packets.isEmpty()) {
+            return;
+        }
+
+        long size = 0;
+        for (Object packet : packets) {
+            size += Scoreboard.estimateSize(packet);
+        }
+
+        this.record((long) packets.size() * players, size * players);
+    }
+
+    private void record(long packets, long bytes) {
+        this.packets.add(packets);
+        this.bytes.add(bytes);
+        TOTAL_PACKETS.add(packets);
+        TOTAL_BYTES.add(bytes);
+    }
+
+    /**
+     * Record how long it took to render an update.
+     *
+     * @param nanos The time it took in nanoseconds.
+     */
+    public static void recordDuration(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        DURATIONS.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros)));
+    }
+
+    /**
+     * Get the amount of updates the module was given.
+     *
+     * @return The amount of updates.
+     */
+    public long getUpdates() {
+        return this.updates.sum();
+    }
+
+    /**
+     * Get the amount of updates that were throttled.
+     *
+     * @return The amount of throttled updates.
+     */
+    public long getThrottled() {
+        return this.throttled.sum();
+    }
+
+    /**
+     * Get the amount of packets that the module has sent.
+     *
+     * @return The amount of packets.
+     */
+    public long getPackets() {
+        return this.packets.sum();
+    }
+
+    /**
+     * Get the estimated amount of bytes that the module
+     * has sent.
+     *
+     * @return The amount of bytes.
+     * @see Scoreboard#estimateSize(Object)
+     */
+    public long getBytes() {
+        return this.bytes.sum();
+    }
+
+    /**
+     * Get the amount of updates all modules were given.
+     *
+     * @return The total amount of updates.
+     */
+    public static long getTotalUpdates() {
+        return TOTAL_UPDATES.sum();
+    }
+
+    /**
+     * Get the amount of updates of all modules that were throttled.
+     *
+     * @return The total amount of throttled updates.
+     */
+    public static long getTotalThrottled() {
+        return TOTAL_THROTTLED.sum();
+    }
+
+    /**
+     * Get the amount of packets that all modules have sent.
+     *
+     * @return The total amount of packets.
+     */
+    public static long getTotalPackets() {
+        return TOTAL_PACKETS.sum();
+    }
+
+    /**
+     * Get the estimated amount of bytes that all modules have sent.
+     *
+     * @return The total amount of bytes.
+     */
+    public static long getTotalBytes() {
+        return TOTAL_BYTES.sum();
+    }
+
+    /**
+     * Get the duration that the given fraction of all renders took
+     * less than (e.g. {@code 0.99} for the 99th percentile). Durations
+     * are only recorded in powers of 2, so this is the upper bound of
+     * the power of 2 that the percentile falls into.
+     *
+     * @param fraction The fraction of renders between 0 and 1.
+     * @return The duration in microseconds, {@link Long#MAX_VALUE} if it
+     *         is longer than can be recorded or {@code -1} if no renders
+     *         have been recorded yet.
+     */
+    public static long getDurationPercentile(double fraction) {
+
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = DURATIONS.get(i);
+            total += counts[i];
+        }
+
+        if (total == 0) {
+            return -1;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(total * fraction)), count = 0;
+        for (int i = 0; i < BUCKETS - 1; i++) {
+
+            count += counts[i];
+            if (count >= target) {
+                return 1L << i;
+            }
+        }
+
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,302 @@
+package com.andavin.scoreboard;
+
+import com.andavin.scoreboard.name.BelowName;
+import com.andavin.scoreboard.name.PlayerName;
+import com.andavin.scoreboard.sidebar.Sidebar;
+import com.andavin.scoreboard.util.Logger;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The owner of all of the {@link ScoreboardModule modules} of a single
+ * player. Updates can be given to this from any thread and they are
+ * queued in a mailbox and then processed one at a time, in the order
+ * they were given, on a worker pool that is shared by every player.
+ * <p>
+ * Since only one update is ever processed at a time per player, the
+ * modules owned by this never have to be used by more than one thread
+ * at once and none of the scoreboard work has to happen on the main
+ * thread.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class PlayerScoreboard {
+
+    private static final Map<UUID, PlayerScoreboard> SCOREBOARDS = new ConcurrentHashMap<>();
+    private static volatile ExecutorService workers;
+
+    /**
+     * Get the scoreboard of the given player or create
+     * one if the player does not have one yet.
+     *
+     * @param player The player to get the scoreboard for.
+     * @return The scoreboard of the player.
+     * @throws IllegalArgumentException If the player is not online.
+     */
+    public static PlayerScoreboard get(@Nonnull Player player) throws IllegalArgumentException {
+
+        if (!player.isOnline()) {
+            throw new IllegalArgumentException("[Scoreboard] Attempting to get the scoreboard of " +
+                                               player.getName() + " who is offline.");
+        }
+
+        return SCOREBOARDS.computeIfAbsent(player.getUniqueId(), uuid -> new PlayerScoreboard(player));
+    }
+
+    /**
+     * Start the shared worker pool that processes the updates
+     * of every player.
+     *
+     * @param threads The amount of threads in the pool.
+     */
+    static void start(int threads) {
+
+        AtomicInteger count = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread thread = new Thread(r, "Scoreboard Worker #" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stop the shared worker pool. Any updates that are still
+     * waiting to be processed will be dropped.
+     */
+    static void shutdown() {
+
+        ExecutorService workers = PlayerScoreboard.workers;
+        if (workers != null) {
+            PlayerScoreboard.workers = null;
+            workers.shutdownNow();
+        }
+
+        SCOREBOARDS.clear();
+    }
+
+    /**
+     * Remove the scoreboard of the player with the given UUID.
+     * Any updates that are still queued are dropped and no more
+     * updates are accepted. This must be called before the
+     * modules of the player are {@link ScoreboardModule#destroyAll(UUID) destroyed}.
+     *
+     * @param uuid The UUID of the player to remove the scoreboard for.
+     */
+    static void remove(UUID uuid) {
+
+        PlayerScoreboard scoreboard = SCOREBOARDS.remove(uuid);
+        if (scoreboard != null) {
+            scoreboard.removed = true;
+            scoreboard.mailbox.clear();
+        }
+    }
+
+    private final Player player;
+    private volatile Sidebar sidebar;
+    private volatile PlayerName name;
+    private volatile BelowName belowName;
+    private volatile boolean removed;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+
+    private PlayerScoreboard(Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Get the player that owns this scoreboard.
+     *
+     * @return The player.
+     */
+    public Player getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * Queue an update to be processed for this player. Updates
+     * are processed in the order they are given and never at
+     * the same time as another update for this player.
+     * <p>
+     * This may be called from any thread. If the worker pool
+     * is not running, then the update is processed right away
+     * on the calling thread.
+     * <p>
+     * Once the player has logged out, the update is dropped.
+     *
+     * @param update The update to process.
+     */
+    public void execute(@Nonnull Runnable update) {
+
+        if (this.removed) {
+            Logger.debug("[Scoreboard] Dropping an update after {} logged out.", this.player.getName());
+            return;
+        }
+
+        this.mailbox.add(update);
+        if (this.wip.getAndIncrement() == 0) {
+
+            ExecutorService workers = PlayerScoreboard.workers;
+            if (workers == null) {
+                this.drain();
+                return;
+            }
+
+            try {
+                workers.execute(this::drain);
+            } catch (RuntimeException e) { // Rejected while shutting down
+                this.drain();
+            }
+        }
+    }
+
+    /**
+     * Get the sidebar that is owned by this scoreboard.
+     *
+     * @return The sidebar or {@code null} if there is none.
+     */
+    public Sidebar getSidebar() {
+        return this.sidebar;
+    }
+
+    /**
+     * Create a new {@link Sidebar} for this player, replacing
+     * and destroying any sidebar that was previously owned.
+     *
+     * @param displayName The initial display name of the sidebar.
+     */
+    public void createSidebar(String displayName) {
+
+        this.execute(() -> {
+
+            Sidebar old = this.sidebar;
+            if (old != null && !old.isDestroyed()) {
+                old.destroy();
+            }
+
+            this.sidebar = Sidebar.create(this.player, displayName);
+            this.checkRemoved();
+        });
+    }
+
+    /**
+     * Display lines of text in the sidebar owned by this scoreboard.
+     * The sidebar must have been {@link #createSidebar(String) created}
+     * first and the array must not be modified after it is given.
+     *
+     * @param lines The lines to display.
+     */
+    public void display(String... lines) {
+
+        this.execute(() -> {
+
+            Sidebar sidebar = this.sidebar;
+            if (sidebar != null && !sidebar.isDestroyed()) {
+                sidebar.display(lines);
+            }
+        });
+    }
+
+    /**
+     * Update the prefix and suffix of this player's name for
+     * every player that is online.
+     *
+     * @param prefix The prefix to update to.
+     * @param suffix The suffix to update to.
+     * @see PlayerName#update(String, String)
+     */
+    public void setName(String prefix, String suffix) {
+
+        this.execute(() -> {
+
+            PlayerName name = this.name;
+            if (name == null || name.isDestroyed()) {
+                this.name = name = new PlayerName(this.player);
+                this.checkRemoved();
+            }
+
+            name.update(prefix, suffix);
+        });
+    }
+
+    /**
+     * Create the objective that will appear below the names of
+     * other players from this player's perspective, replacing
+     * any that was previously owned.
+     *
+     * @param displayName The display name of the objective.
+     * @see BelowName
+     */
+    public void createBelowName(String displayName) {
+
+        this.execute(() -> {
+
+            BelowName old = this.belowName;
+            if (old != null && !old.isDestroyed()) {
+                old.destroy();
+            }
+
+            this.belowName = new BelowName(this.player, displayName);
+            this.checkRemoved();
+        });
+    }
+
+    /**
+     * Set the score that shows below this player's name from
+     * the perspective of other players.
+     *
+     * @param score The score to set to.
+     * @see BelowName#setScore(int)
+     */
+    public void setBelowNameScore(int score) {
+
+        this.execute(() -> {
+
+            BelowName belowName = this.belowName;
+            if (belowName != null && !belowName.isDestroyed()) {
+                belowName.setScore(score);
+            }
+        });
+    }
+
+    private void drain() {
+
+        int missed = 1;
+        do {
+
+            Runnable update;
+            while ((update = this.mailbox.poll()) != null) {
+
+                if (this.removed) {
+                    continue; // Drop everything after a logout
+                }
+
+                try {
+                    update.run();
+                } catch (Throwable e) {
+                    Logger.severe(e, "Failed to update the scoreboard of {}.", this.player.getName());
+                }
+            }
+
+            missed = this.wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void checkRemoved() {
+
+        // The player logged out while a module was being created, so
+        // the new module was not there to be destroyed with the others
+        if (this.removed) {
+            ScoreboardModule.destroyAll(this.player.getUniqueId());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.andavin.scoreboard;
+
+import com.andavin.scoreboard.name.BelowName;
+import com.andavin.scoreboard.name.Interest;
+import org.bukkit.entity.Player;
+
+/**
+ * Runs the parts of the plugin that are normally only run by the
+ * plugin itself when players join or quit and every tick. This is
+ * only meant for running the plugin without a real server (e.g. in
+ * tests, benchmarks and simulations) and must never be used while
+ * the plugin is enabled.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class PluginHooks {
+
+    /**
+     * Rebuild the {@link Roster} from the players that
+     * the server currently says are online.
+     */
+    public static void refreshRoster() {
+        Roster.refresh(null);
+    }
+
+    /**
+     * Do everything the plugin does when a player joins.
+     * The player must already be online on the server.
+     *
+     * @param player The player that joined.
+     */
+    public static void join(Player player) {
+        Roster.refresh(null);
+        SBPlugin.updateNameScoreboard(player);
+    }
+
+    /**
+     * Do everything the plugin does when a player quits.
+     *
+     * @param player The player that quit.
+     */
+    public static void quit(Player player) {
+        Roster.refresh(player);
+        PlayerScoreboard.remove(player.getUniqueId());
+        ScoreboardModule.destroyAll(player.getUniqueId());
+    }
+
+    /**
+     * Run everything that the plugin runs at the end of a tick
+     * (i.e. flush the queued modules and the changed scores).
+     */
+    public static void tick() {
+        UpdateQueue.flush();
+        BelowName.flushScores();
+    }
+
+    /**
+     * Send the names and scores that players who came into
+     * range are missing, which the plugin does every few
+     * ticks if there is a tracking range.
+     *
+     * @see Interest#resync()
+     */
+    public static void resync() {
+        Interest.resync();
+    }
+
+    /**
+     * Send the names and scores that are missing between the
+     * given player and everyone else after the player's
+     * visibility changed, which the plugin does when a player
+     * changes worlds.
+     *
+     * @param player The player whose visibility changed.
+     * @see Interest#resync(Player)
+     */
+    public static void resync(Player player) {
+        Interest.resync(player);
+    }
+
+    /**
+     * Set if players with the same name prefix and suffix
+     * are put on one shared team.
+     *
+     * @param groupingNames If player names should be grouped.
+     * @see SBPlugin#isGroupingNames()
+     */
+    public static void setGroupingNames(boolean groupingNames) {
+        SBPlugin.setGroupingNames(groupingNames);
+    }
+
+    /**
+     * Set the distance that players have to be within to
+     * receive name and below name updates right away.
+     *
+     * @param range The tracking range or zero or less to
+     *              not check the distance at all.
+     * @see SBPlugin#getTrackingRange()
+     */
+    public static void setTrackingRange(int range) {
+        SBPlugin.setTrackingRange(range);
+    }
+
+    private PluginHooks() {
+    }
+}
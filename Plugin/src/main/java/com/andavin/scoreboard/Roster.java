@@ -0,0 +1,61 @@
+package com.andavin.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A snapshot of the players that are online which is only rebuilt
+ * when a player joins or quits. Reading the snapshot is free and it
+ * can be read from any thread, so it should be used instead of
+ * copying {@link Bukkit#getOnlinePlayers()} on every update.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class Roster {
+
+    private static volatile List<Player> online = Collections.emptyList();
+
+    /**
+     * Get the current snapshot of the players that are online.
+     * The snapshot will never change once it is returned.
+     *
+     * @return The players that are online.
+     */
+    public static List<Player> getOnline() {
+        return online;
+    }
+
+    /**
+     * Rebuild the snapshot from the players that are currently
+     * online, leaving out the given player (for instance, if the
+     * player is in the process of quitting).
+     *
+     * @param exclude The player to leave out (may be {@code null}).
+     */
+    static void refresh(Player exclude) {
+
+        Player[] players = Bukkit.getOnlinePlayers().toArray(new Player[0]);
+        if (exclude != null) {
+
+            int size = 0;
+            for (Player player : players) {
+
+                if (!player.equals(exclude)) {
+                    players[size++] = player;
+                }
+            }
+
+            players = Arrays.copyOf(players, size);
+        }
+
+        online = Collections.unmodifiableList(Arrays.asList(players));
+    }
+
+    private Roster() {
+    }
+}
@@ -1,21 +1,37 @@
 package com.andavin.scoreboard;
 
 import com.andavin.scoreboard.name.BelowName;
+import com.andavin.scoreboard.name.Interest;
 import com.andavin.scoreboard.name.PlayerName;
+import com.andavin.scoreboard.protocol.DispatchMode;
+import com.andavin.scoreboard.protocol.PacketMode;
+import com.andavin.scoreboard.protocol.Scoreboard;
 import com.andavin.scoreboard.sidebar.SidebarType;
 import com.andavin.scoreboard.util.Logger;
+import com.andavin.scoreboard.util.TimeUtil;
+import com.andavin.scoreboard.util.TokenBucketLimiter;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.metadata.MetadataValue;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 public final class SBPlugin extends JavaPlugin implements Listener {
 
+    private static final long REPORT_INTERVAL = 1200L; // 1 minute in ticks
+    private static final LongAdder JOINS = new LongAdder(), JOIN_NANOS = new LongAdder(), JOIN_PACKETS = new LongAdder();
     private static SBPlugin plugin;
-    private static boolean canChangeType = true;
+    private static boolean canChangeType = true, coalescing, groupingNames;
+    private static int trackingRange;
     private static SidebarType sideBarType = SidebarType.SCORE;
 
     public SBPlugin() {
@@ -27,7 +43,86 @@ public final class SBPlugin extends JavaPlugin implements Listener {
         canChangeType = false;
         Logger.init(this); // Initialize the logger
         this.saveDefaultConfig();
+        this.loadModes();
+        coalescing = this.getConfig().getBoolean("coalesce-updates");
+        groupingNames = this.getConfig().getBoolean("group-names");
+        trackingRange = this.getConfig().getInt("tracking-range", 0);
+        PlayerScoreboard.start(this.getConfig().getInt("worker-threads", 2));
+        Roster.refresh(null);
         Bukkit.getPluginManager().registerEvents(this, this);
+        this.getCommand("sb").setExecutor(new StatsCommand());
+        Bukkit.getScheduler().runTaskTimer(this, UpdateQueue::flush, 1L, 1L);
+        Bukkit.getScheduler().runTaskTimer(this, BelowName::flushScores, 1L, 1L);
+        Bukkit.getScheduler().runTaskTimer(this, LeakDetector::check, REPORT_INTERVAL, REPORT_INTERVAL);
+        if (trackingRange > 0) {
+            long interval = Math.max(1, this.getConfig().getInt("resync-interval", 10));
+            Bukkit.getScheduler().runTaskTimer(this, Interest::resync, interval, interval);
+        }
+        if (this.getConfig().getBoolean("debug")) {
+            // Report how much of each tick is spent handing off packets
+            Bukkit.getScheduler().runTaskTimer(this, new Runnable() {
+
+                private long lastReport = System.nanoTime();
+
+                @Override
+                public void run() {
+
+                    long now = System.nanoTime(), spent = Scoreboard.resetMainThreadTime();
+                    Logger.debug("Spent {} sending scoreboard packets on the main thread over the last {} ({} microseconds per tick).",
+                            TimeUtil.formatDifference(0, TimeUnit.NANOSECONDS.toMillis(spent), true, true),
+                            TimeUtil.formatDifference(0, TimeUnit.NANOSECONDS.toMillis(now - this.lastReport), true, true),
+                            TimeUnit.NANOSECONDS.toMicros(spent) / REPORT_INTERVAL);
+                    this.lastReport = now;
+                    long joins = JOINS.sumThenReset(), joinNanos = JOIN_NANOS.sumThenReset(), joinPackets = JOIN_PACKETS.sumThenReset();
+                    if (joins > 0) {
+                        Logger.debug("Synchronized names for {} joins in {} microseconds and {} packets on average.",
+                                joins, TimeUnit.NANOSECONDS.toMicros(joinNanos / joins), joinPackets / joins);
+                    }
+                }
+            }, REPORT_INTERVAL, REPORT_INTERVAL);
+        }
+    }
+
+    @Override
+    public void onDisable() {
+        PlayerScoreboard.shutdown();
+        TokenBucketLimiter.shutdown();
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        Roster.refresh(null);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChangedWorld(PlayerChangedWorldEvent event) {
+        Interest.resync(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        Roster.refresh(event.getPlayer());
+        PlayerScoreboard.remove(event.getPlayer().getUniqueId());
+        ScoreboardModule.destroyAll(event.getPlayer().getUniqueId());
+    }
+
+    private void loadModes() {
+
+        String packetMode = this.getConfig().getString("packet-mode", PacketMode.NMS.name());
+        try {
+            Scoreboard.setPacketMode(PacketMode.valueOf(packetMode.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            Logger.warn("Unknown packet mode {}. Defaulting to {}.", packetMode, PacketMode.NMS);
+        } catch (UnsupportedOperationException e) {
+            Logger.warn("{} Defaulting to {}.", e.getMessage(), PacketMode.NMS);
+        }
+
+        String dispatchMode = this.getConfig().getString("dispatch-mode", DispatchMode.SYNC.name());
+        try {
+            Scoreboard.setDispatchMode(DispatchMode.valueOf(dispatchMode.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            Logger.warn("Unknown dispatch mode {}. Defaulting to {}.", dispatchMode, DispatchMode.SYNC);
+        }
     }
 
     /**
@@ -52,7 +147,8 @@ public final class SBPlugin extends JavaPlugin implements Listener {
      * Change the current {@link SidebarType} setting for the
      * Scoreboard plugin.
      * <p>
-     * Default {@link SidebarType#SCORE}
+     * Default {@link SidebarType#SCORE}, however, {@link SidebarType#FIXED}
+     * is recommended for sidebars that update very often.
      *
      * @param sideBarType The setting to change to.
      * @throws IllegalStateException If this method is called after {@link #onEnable()}.
@@ -66,33 +162,122 @@ public final class SBPlugin extends JavaPlugin implements Listener {
         }
     }
 
+    /**
+     * Tell if sidebar updates are currently being coalesced.
+     * <p>
+     * When coalescing, {@link com.andavin.scoreboard.sidebar.Sidebar#display(String...)}
+     * only records the lines and every sidebar that was updated
+     * renders its latest lines once at the end of the tick.
+     * This guarantees that the final lines are always sent even
+     * when an update is limited.
+     *
+     * @return If updates are being coalesced.
+     */
+    public static boolean isCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * Tell if players with the same name prefix and suffix share
+     * a single team that is known by every player.
+     * <p>
+     * When grouping, each client only has one team per rank
+     * instead of one per player and a rank change only moves
+     * the player from one team to another.
+     *
+     * @return If player names are being grouped.
+     */
+    public static boolean isGroupingNames() {
+        return groupingNames;
+    }
+
+    /**
+     * Get the distance in blocks that another player has to be
+     * within for a player to receive updates to their name and
+     * below name score right away.
+     *
+     * @return The tracking range or zero or less if the distance
+     *         should not be checked at all.
+     * @see Interest
+     */
+    public static int getTrackingRange() {
+        return trackingRange;
+    }
+
+    /**
+     * Set if player names are grouped without a config, i.e.
+     * when the plugin is run by the {@link PluginHooks}.
+     *
+     * @param groupingNames If player names should be grouped.
+     * @see #isGroupingNames()
+     */
+    static void setGroupingNames(boolean groupingNames) {
+        SBPlugin.groupingNames = groupingNames;
+    }
+
+    /**
+     * Set the tracking range without a config, i.e. when
+     * the plugin is run by the {@link PluginHooks}.
+     *
+     * @param trackingRange The tracking range to set to.
+     * @see #getTrackingRange()
+     */
+    static void setTrackingRange(int trackingRange) {
+        SBPlugin.trackingRange = trackingRange;
+    }
+
     /**
      * Update all of the player names for all of the players
      * online to the given player (i.e. display their names).
      * <p>
      * This should usually be called on login or whenever the
-     * player is initialized.
+     * player is initialized. All of the names and scores are
+     * built into a single batch that is sent with one flush.
      *
      * @param player The player to send updates to.
      */
     public static void updateNameScoreboard(Player player) {
 
-        Player[] players = Bukkit.getOnlinePlayers().toArray(new Player[0]);
+        long start = System.nanoTime();
+        List<Player> players = Roster.getOnline();
+        List<Object> packets = new ArrayList<>(players.size() * 2);
+        if (groupingNames) {
+            packets.addAll(PlayerName.getRankPackets(player));
+        }
+
         for (Player online : players) {
 
             if (online.equals(player)) {
-                return;
+                continue;
             }
 
-            List<MetadataValue> playerName = online.getMetadata(PlayerName.METADATA);
-            if (!playerName.isEmpty()) {
-                ((PlayerName) playerName.get(0).value()).update(player);
+            PlayerName playerName = groupingNames ? null : PlayerName.get(online);
+            if (playerName != null) {
+
+                Object packet = playerName.getUpdatePacket(player);
+                if (packet != null) {
+                    playerName.getStats().recordPacket(packet, 1);
+                    packets.add(packet);
+                }
             }
 
-            List<MetadataValue> belowName = online.getMetadata(BelowName.METADATA);
-            if (!belowName.isEmpty()) {
-                ((BelowName) belowName.get(0).value()).update(player);
+            BelowName belowName = BelowName.get(online);
+            if (belowName != null) {
+
+                Object packet = belowName.getUpdatePacket(player);
+                if (packet != null) {
+                    belowName.getStats().recordPacket(packet, 1);
+                    packets.add(packet);
+                }
             }
         }
+
+        if (!packets.isEmpty()) {
+            Scoreboard.sendPacket(player, packets);
+        }
+
+        JOIN_NANOS.add(System.nanoTime() - start);
+        JOIN_PACKETS.add(packets.size());
+        JOINS.increment();
     }
 }
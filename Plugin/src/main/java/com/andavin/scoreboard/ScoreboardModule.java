@@ -1,12 +1,16 @@
 package com.andavin.scoreboard;
 
-import org.bukkit.Bukkit;
+import com.andavin.scoreboard.util.Logger;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @since February 13, 2019
@@ -14,35 +18,59 @@ import java.util.UUID;
  */
 public class ScoreboardModule {
 
-    protected boolean destroyed;
+    // Every module that is not destroyed yet by the UUID of its player
+    private static final Map<UUID, Set<ScoreboardModule>> MODULES = new ConcurrentHashMap<>();
+    // Every module that is not destroyed yet and is not owned by a single player
+    private static final Set<ScoreboardModule> SHARED = ConcurrentHashMap.newKeySet();
+
+    protected volatile boolean destroyed;
     protected final UUID uuid;
-    private WeakReference<Player> player;
+    final AtomicBoolean queued = new AtomicBoolean();
+    private final ModuleStats stats = new ModuleStats();
+    private volatile Player player;
+
+    protected ScoreboardModule(@Nonnull Player player) throws IllegalArgumentException {
+
+        if (!player.isOnline()) {
+            throw new IllegalArgumentException("[" + this.getClass().getSimpleName() + "] Attempting to create a module for " +
+                                               player.getName() + " who is offline.");
+        }
 
-    protected ScoreboardModule(@Nonnull Player player) {
         this.uuid = player.getUniqueId();
-        this.player = new WeakReference<>(player);
+        this.player = player;
+        MODULES.computeIfAbsent(this.uuid, uuid -> ConcurrentHashMap.newKeySet()).add(this);
+    }
+
+    /**
+     * Create a module that is not owned by any single player and
+     * can be shown to any amount of players. The module has no
+     * {@link #getPlayer() player} and is {@link #onLogout(UUID) told}
+     * whenever any player logs out instead.
+     */
+    protected ScoreboardModule() {
+        this.uuid = UUID.randomUUID();
+        SHARED.add(this);
     }
 
     /**
      * Get the player that this objective is being
      * displayed for.
      *
-     * @return The player.
+     * @return The player or {@code null} if the player has logged out.
      */
     @Nullable
     public Player getPlayer() {
+        return this.player;
+    }
 
-        Player player = this.player.get();
-        if (player != null) {
-            return player;
-        }
-
-        Player updated = Bukkit.getPlayer(this.uuid);
-        if (updated != null) {
-            this.player = new WeakReference<>(updated);
-        }
-
-        return updated;
+    /**
+     * Get the statistics of how often this module is updated
+     * and how much it sends.
+     *
+     * @return The statistics of this module.
+     */
+    public ModuleStats getStats() {
+        return this.stats;
     }
 
     /**
@@ -55,12 +83,135 @@ public class ScoreboardModule {
         return destroyed;
     }
 
+    /**
+     * Tell if an update can be applied to this module. A module that
+     * was destroyed because its player logged out can still be given
+     * updates that were already on their way, so those are dropped.
+     *
+     * @param name The name of this type of module to use in messages.
+     * @return If the update can be applied or {@code false} if it should be dropped.
+     * @throws IllegalArgumentException If this module was destroyed directly.
+     */
+    protected final boolean canUpdate(String name) {
+
+        if (!this.destroyed) {
+            return true;
+        }
+
+        if (this.player == null) {
+            Logger.debug("[{}] Dropping an update after {} logged out.", name, this.uuid);
+            return false;
+        }
+
+        throw new IllegalArgumentException("[" + name + "] Attempting to update a destroyed " + name.toLowerCase() + '.');
+    }
+
     /**
      * Destroy this objective and delete it from the player.
      * After calling this method, this objective can no
      * longer be used.
      */
     public void destroy() {
+
         this.destroyed = true;
+        if (SHARED.remove(this)) {
+            // There is no logout for a shared module to wait for
+            LeakDetector.track(this);
+            return;
+        }
+
+        Set<ScoreboardModule> modules = MODULES.get(this.uuid);
+        if (modules != null) {
+            modules.remove(this);
+        }
+    }
+
+    /**
+     * Get every module that is not destroyed yet by the
+     * UUID of the player that it belongs to.
+     *
+     * @return A view of the modules.
+     */
+    static Map<UUID, Set<ScoreboardModule>> getModules() {
+        return Collections.unmodifiableMap(MODULES);
+    }
+
+    /**
+     * Destroy every module of the player that has the given UUID
+     * without sending anything to the player (i.e. when the player
+     * logs out). The modules will be reported by the {@link LeakDetector}
+     * if they are still being referenced long after this.
+     * <p>
+     * Every shared module is also {@link #onLogout(UUID) told} that
+     * the player logged out so that it can forget about them.
+     *
+     * @param uuid The UUID of the player to destroy the modules of.
+     */
+    static void destroyAll(UUID uuid) {
+
+        for (ScoreboardModule module : SHARED) {
+
+            try {
+                module.onLogout(uuid);
+            } catch (RuntimeException e) {
+                Logger.severe(e, "Failed to remove {} from {} after logout.", uuid, module.getClass().getSimpleName());
+            }
+        }
+
+        Set<ScoreboardModule> modules = MODULES.remove(uuid);
+        if (modules == null) {
+            return;
+        }
+
+        for (ScoreboardModule module : modules) {
+
+            // Drop the player first so nothing is sent to them
+            module.player = null;
+            if (!module.destroyed) {
+
+                try {
+                    module.destroy();
+                } catch (RuntimeException e) {
+                    Logger.severe(e, "Failed to destroy {} after logout.", module.getClass().getSimpleName());
+                }
+            }
+
+            LeakDetector.track(module);
+        }
+    }
+
+    /**
+     * Forget about the player that has the given UUID since they
+     * have logged out. This is only called for modules that are
+     * not owned by a single player and nothing should be sent to
+     * the player that logged out.
+     *
+     * @param uuid The UUID of the player that logged out.
+     */
+    protected void onLogout(UUID uuid) {
+    }
+
+    /**
+     * Queue this module to be {@link #flush() flushed} on the
+     * next server tick. If this module is already queued, then
+     * this method will do nothing.
+     */
+    protected final void queueFlush() {
+
+        if (this.queued.compareAndSet(false, true)) {
+            UpdateQueue.add(this);
+        }
+    }
+
+    /**
+     * Send any updates that were recorded since this module was
+     * {@link #queueFlush() queued}. This is called on the main
+     * server thread at most once per tick.
+     *
+     * @return If the flush is complete or {@code false} if this
+     *         module should be queued again for the next tick.
+     */
+    protected boolean flush() {
+        return true;
     }
 }
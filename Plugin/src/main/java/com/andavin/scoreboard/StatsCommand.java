@@ -0,0 +1,112 @@
+package com.andavin.scoreboard;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * The {@code /sb stats [amount]} command that shows the
+ * {@link ModuleStats statistics} for the whole server and the
+ * players whose modules have sent the most packets.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+final class StatsCommand implements CommandExecutor {
+
+    private static final int DEFAULT_AMOUNT = 5;
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+
+        if (args.length == 0 || !args[0].equalsIgnoreCase("stats")) {
+            return false;
+        }
+
+        int amount = DEFAULT_AMOUNT;
+        if (args.length > 1) {
+
+            try {
+                amount = Math.max(1, Integer.parseInt(args[1]));
+            } catch (NumberFormatException e) {
+                sender.sendMessage(ChatColor.RED + "The amount must be a number: " + args[1]);
+                return true;
+            }
+        }
+
+        sender.sendMessage(ChatColor.GOLD + "Scoreboard Statistics");
+        sender.sendMessage(ChatColor.YELLOW + "Updates: " + ChatColor.WHITE + ModuleStats.getTotalUpdates() +
+                           ChatColor.GRAY + " (" + ModuleStats.getTotalThrottled() + " throttled)");
+        sender.sendMessage(ChatColor.YELLOW + "Packets: " + ChatColor.WHITE + ModuleStats.getTotalPackets() +
+                           ChatColor.GRAY + " (~" + formatBytes(ModuleStats.getTotalBytes()) + ')');
+        sender.sendMessage(ChatColor.YELLOW + "Render time: " + ChatColor.WHITE +
+                           "50% " + formatMicros(ModuleStats.getDurationPercentile(0.5)) +
+                           ", 99% " + formatMicros(ModuleStats.getDurationPercentile(0.99)) +
+                           ", 99.9% " + formatMicros(ModuleStats.getDurationPercentile(0.999)));
+
+        List<PlayerStats> players = new ArrayList<>();
+        ScoreboardModule.getModules().forEach((uuid, modules) -> players.add(new PlayerStats(uuid, modules)));
+        players.sort((a, b) -> Long.compare(b.packets, a.packets));
+        sender.sendMessage(ChatColor.GOLD + "Top " + Math.min(amount, players.size()) + " players by packets sent:");
+        for (int i = 0; i < amount && i < players.size(); i++) {
+
+            PlayerStats stats = players.get(i);
+            StringBuilder modules = new StringBuilder();
+            stats.modules.forEach((type, packets) ->
+                    modules.append(modules.length() == 0 ? "" : ", ").append(type).append(' ').append(packets));
+            sender.sendMessage(ChatColor.YELLOW.toString() + (i + 1) + ". " + stats.name + ": " + ChatColor.WHITE +
+                               stats.packets + " packets" + ChatColor.GRAY + " (~" + formatBytes(stats.bytes) + "), " +
+                               ChatColor.WHITE + stats.updates + " updates" + ChatColor.GRAY + " (" +
+                               stats.throttled + " throttled) [" + modules + ']');
+        }
+
+        return true;
+    }
+
+    private static String formatBytes(long bytes) {
+        return bytes < 1024 ? bytes + " B" : bytes < 1024 * 1024 ? String.format("%.1f KiB", bytes / 1024D) :
+                String.format("%.1f MiB", bytes / (1024D * 1024D));
+    }
+
+    private static String formatMicros(long micros) {
+        return micros < 0 ? "n/a" : micros == Long.MAX_VALUE ? "> 262ms" :
+                micros < 1000 ? "< " + micros + "µs" : "< " + micros / 1000 + "ms";
+    }
+
+    private static final class PlayerStats {
+
+        private final String name;
+        private final Map<String, Long> modules = new TreeMap<>();
+        private long updates, throttled, packets, bytes;
+
+        PlayerStats(UUID uuid, Set<ScoreboardModule> modules) {
+
+            String name = null;
+            for (ScoreboardModule module : modules) {
+
+                Player player = module.getPlayer();
+                if (name == null && player != null) {
+                    name = player.getName();
+                }
+
+                ModuleStats stats = module.getStats();
+                this.updates += stats.getUpdates();
+                this.throttled += stats.getThrottled();
+                this.packets += stats.getPackets();
+                this.bytes += stats.getBytes();
+                this.modules.merge(module.getClass().getSimpleName(), stats.getPackets(), Long::sum);
+            }
+
+            this.name = name != null ? name : uuid.toString();
+        }
+    }
+}
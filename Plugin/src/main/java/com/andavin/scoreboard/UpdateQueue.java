@@ -0,0 +1,61 @@
+package com.andavin.scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A queue of {@link ScoreboardModule modules} that have pending
+ * updates. The queue is flushed once per server tick so that
+ * each module renders, at most, once per tick with the latest
+ * state that it was given.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+final class UpdateQueue {
+
+    private static final Queue<ScoreboardModule> QUEUE = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Add a module to the queue to be flushed on the next tick.
+     * This should only be called once until the module is flushed.
+     *
+     * @param module The module to add.
+     */
+    static void add(ScoreboardModule module) {
+        QUEUE.add(module);
+    }
+
+    /**
+     * {@link ScoreboardModule#flush() Flush} every module that is
+     * currently in the queue. Any module that is not able to flush
+     * right now will be queued again for the next tick.
+     */
+    static void flush() {
+
+        List<ScoreboardModule> retry = null;
+        ScoreboardModule module;
+        while ((module = QUEUE.poll()) != null) {
+
+            // Allow the module to be queued again while it is flushing
+            module.queued.set(false);
+            if (!module.flush()) {
+
+                if (retry == null) {
+                    retry = new ArrayList<>();
+                }
+
+                retry.add(module);
+            }
+        }
+
+        if (retry != null) {
+            retry.forEach(ScoreboardModule::queueFlush);
+        }
+    }
+
+    private UpdateQueue() {
+    }
+}
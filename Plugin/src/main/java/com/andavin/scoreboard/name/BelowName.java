@@ -1,17 +1,24 @@
 package com.andavin.scoreboard.name;
 
-import com.andavin.scoreboard.SBPlugin;
+import com.andavin.scoreboard.ModuleRegistry;
+import com.andavin.scoreboard.ModuleStats;
+import com.andavin.scoreboard.Roster;
 import com.andavin.scoreboard.ScoreboardModule;
 import com.andavin.scoreboard.protocol.Scoreboard;
 import com.andavin.scoreboard.util.Logger;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.metadata.MetadataValue;
 import org.bukkit.scoreboard.DisplaySlot;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @since February 13, 2019
@@ -19,19 +26,48 @@ import java.util.List;
  */
 public class BelowName extends ScoreboardModule {
 
-    public static final String METADATA = "sb-below-name";
-    private int score;
+    // Every player's objective must have the same name since the scores
+    // of all players are sent to it, so there is only one name per session
+    private static final String OBJECTIVE = Scoreboard.getNextName('b');
+    private static final ModuleRegistry<BelowName> REGISTRY = new ModuleRegistry<>();
+    private static final Queue<BelowName> CHANGED = new ConcurrentLinkedQueue<>();
+    private volatile int score;
+    private volatile boolean sent;
+    private int version;
+    private final AtomicBoolean changed = new AtomicBoolean();
+    // The players that have the score mapped to the version they have
+    // Weak so that players that leave are forgotten automatically
+    private final Map<Player, Integer> viewers = new WeakHashMap<>();
+
+    /**
+     * Get the below name module of the given player.
+     *
+     * @param player The player to get the module for.
+     * @return The module or {@code null} if the player has none.
+     */
+    @Nullable
+    public static BelowName get(@Nonnull Player player) {
+        return REGISTRY.get(player);
+    }
+
+    /**
+     * Get all of the below name modules of the players that are online.
+     *
+     * @return A view of all of the modules.
+     */
+    public static Collection<BelowName> getAll() {
+        return REGISTRY.values();
+    }
 
     public BelowName(@Nonnull Player player, @Nonnull String displayName) {
 
         super(player);
-        List<MetadataValue> metadata = player.getMetadata(METADATA);
-        if (!metadata.isEmpty()) {
-            ((BelowName) metadata.get(0).value()).destroy();
+        BelowName old = REGISTRY.register(this);
+        if (old != null) {
+            old.destroy();
         }
 
-        player.setMetadata(METADATA, new FixedMetadataValue(SBPlugin.getPlugin(), this));
-        Scoreboard.createObjective(player, displayName, METADATA, DisplaySlot.BELOW_NAME);
+        Scoreboard.createObjective(player, displayName, OBJECTIVE, DisplaySlot.BELOW_NAME);
     }
 
     /**
@@ -43,47 +79,154 @@ public class BelowName extends ScoreboardModule {
      */
     public void setDisplayName(String displayName) {
 
-        if (this.destroyed) {
-            throw new IllegalArgumentException("[Below Name] Attempting to update a destroyed sidebar.");
+        if (!this.canUpdate("Below Name")) {
+            return;
         }
 
         Player player = this.getPlayer();
         if (player == null) {
-            Logger.warn("[Below Name] Sidebar update attempt after player has logged out.");
+            Logger.debug("[Below Name] Update attempt after player has logged out.");
             return;
         }
 
-        Scoreboard.setDisplayName(player, displayName, METADATA);
+        Scoreboard.setDisplayName(player, displayName, OBJECTIVE);
     }
 
     /**
      * Set the score that shows in front of the display
      * name beneath this player's name from the perspective
      * of other players.
+     * <p>
+     * Nothing is sent if the score did not change. Otherwise,
+     * the latest score is sent at the end of the tick along
+     * with every other score that changed during the tick.
      *
      * @param score The score to set to.
      */
     public void setScore(int score) {
 
-        if (this.destroyed) {
-            throw new IllegalArgumentException("[Below Name] Attempting to update a destroyed sidebar.");
+        if (!this.canUpdate("Below Name")) {
+            return;
         }
 
-        Player player = this.getPlayer();
-        if (player == null) {
-            Logger.warn("[Below Name] Sidebar update attempt after player has logged out.");
+        this.getStats().recordUpdate();
+        if (this.score == score && this.sent) {
             return;
         }
 
         this.score = score;
-        String name = player.getDisplayName();
-        Player[] players = Bukkit.getOnlinePlayers().toArray(new Player[0]);
-        for (Player online : players) {
+        if (this.changed.compareAndSet(false, true)) {
+            CHANGED.add(this);
+        }
+    }
+
+    /**
+     * Send every score that has changed since the last time this
+     * was called. Every online player receives all of the changed
+     * scores of the players that it can {@link Interest#canSee(Player, Player) see}
+     * as a single batch. The other players will receive the latest
+     * scores once they can see them.
+     * <p>
+     * This is called at the end of every tick.
+     */
+    public static void flushScores() {
+
+        long start = System.nanoTime();
+        List<Player> targets = null;
+        List<BelowName> changed = null;
+        List<Object> packets = null;
+        BelowName belowName;
+        while ((belowName = CHANGED.poll()) != null) {
+
+            belowName.changed.set(false);
+            Player player = belowName.getPlayer();
+            if (belowName.destroyed || player == null) {
+                continue;
+            }
+
+            if (packets == null) {
+                targets = new ArrayList<>();
+                changed = new ArrayList<>();
+                packets = new ArrayList<>();
+            }
+
+            // The packet is the same for every player so only create it once
+            synchronized (belowName) {
+                belowName.sent = true;
+                belowName.version++;
+            }
+
+            targets.add(player);
+            changed.add(belowName);
+            packets.add(Scoreboard.getAddPacket(OBJECTIVE, player.getDisplayName(), belowName.score));
+        }
+
+        if (packets == null) {
+            return;
+        }
+
+        int[] viewers = new int[packets.size()];
+        for (Player viewer : Roster.getOnline()) {
+
+            List<Object> batch = null;
+            for (int i = 0; i < packets.size(); i++) {
+
+                if (Interest.canSee(viewer, targets.get(i)) && changed.get(i).markSent(viewer)) {
+
+                    if (batch == null) {
+                        batch = new ArrayList<>(packets.size());
+                    }
 
-            if (!online.equals(player)) {
-                Scoreboard.sendPacket(online, Scoreboard.getAddPacket(METADATA, name, score));
+                    batch.add(packets.get(i));
+                    viewers[i]++;
+                }
             }
+
+            if (batch != null) {
+                Scoreboard.sendShared(viewer, batch);
+            }
+        }
+
+        // Only shares were sent, so the originals can still be measured
+        for (int i = 0; i < packets.size(); i++) {
+            changed.get(i).getStats().recordPacket(packets.get(i), viewers[i]);
+            Scoreboard.releaseShared(packets.get(i));
         }
+
+        ModuleStats.recordDuration(System.nanoTime() - start);
+    }
+
+    /**
+     * Get the packet that will update the previously set score
+     * for the player to another specific online player without
+     * sending it. The other player is considered to have the
+     * latest score once this is called.
+     * <p>
+     * The packet is not recorded in the {@link #getStats() statistics}
+     * of this below name, so the caller should record it as it is sent.
+     *
+     * @param other The player that the packet will be sent to.
+     * @return The packet to send or {@code null} if there is nothing
+     *         to send or the other player is already up to date.
+     */
+    @Nullable
+    public Object getUpdatePacket(Player other) {
+
+        if (this.destroyed) {
+            return null;
+        }
+
+        Player player = this.getPlayer();
+        if (player == null || !this.markSent(other)) {
+            return null;
+        }
+
+        return Scoreboard.getAddPacket(OBJECTIVE, player.getDisplayName(), this.score);
+    }
+
+    private synchronized boolean markSent(Player viewer) {
+        Integer known = this.viewers.put(viewer, this.version);
+        return known == null || known != this.version;
     }
 
     /**
@@ -92,27 +235,30 @@ public class BelowName extends ScoreboardModule {
      */
     public void update(Player other) {
 
-        if (this.destroyed) {
-            throw new IllegalArgumentException("[Below Name] Attempting to update a destroyed sidebar.");
+        if (!this.canUpdate("Below Name")) {
+            return;
         }
 
         Player player = this.getPlayer();
         if (player == null) {
-            Logger.warn("[Below Name] Sidebar update attempt after player has logged out.");
+            Logger.debug("[Below Name] Update attempt after player has logged out.");
             return;
         }
 
-        Scoreboard.sendPacket(other, Scoreboard.getAddPacket(METADATA, player.getDisplayName(), this.score));
+        this.markSent(other);
+        Object packet = Scoreboard.getAddPacket(OBJECTIVE, player.getDisplayName(), this.score);
+        this.getStats().recordPacket(packet, 1);
+        Scoreboard.sendPacket(other, packet);
     }
 
     @Override
     public void destroy() {
 
         super.destroy();
+        REGISTRY.unregister(this);
         Player player = this.getPlayer();
         if (player != null) {
-            Scoreboard.deleteObjective(player, METADATA);
-            player.removeMetadata(METADATA, SBPlugin.getPlugin());
+            Scoreboard.deleteObjective(player, OBJECTIVE);
         }
     }
 }
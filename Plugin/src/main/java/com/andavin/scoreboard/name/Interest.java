@@ -0,0 +1,251 @@
+package com.andavin.scoreboard.name;
+
+import com.andavin.scoreboard.Roster;
+import com.andavin.scoreboard.SBPlugin;
+import com.andavin.scoreboard.protocol.Scoreboard;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides which players are interested in the name of another
+ * player. A client only renders a name for a player that it is
+ * tracking, so {@link PlayerName} and {@link BelowName} updates
+ * are only sent to players that can currently see the target.
+ * <p>
+ * Players that could not see a target when it was updated are
+ * given its current state by the {@link #resync() resync} once
+ * the target comes into view by moving or changing worlds.
+ * <p>
+ * Bukkit has no event for {@link Player#showPlayer(Player) showing}
+ * a hidden player, so a player that becomes visible without moving
+ * is only caught up once either of them moves. Anything that shows
+ * players should call {@link #resync(Player)} right afterwards.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class Interest {
+
+    // Player#getLocation() copies the location every time, so the
+    // locations are copied into these instead for every check
+    private static final ThreadLocal<Location[]> SCRATCH = ThreadLocal.withInitial(
+            () -> new Location[] { new Location(null, 0, 0, 0), new Location(null, 0, 0, 0) });
+    // The position of every online player at the last resync
+    // which is only ever accessed from the main thread
+    private static final Map<Player, Position> POSITIONS = new HashMap<>();
+    private static int stamp;
+
+    /**
+     * Tell if the viewer can currently see the target in that
+     * the target is not hidden from the viewer and they are
+     * in the same world within the {@link SBPlugin#getTrackingRange()
+     * tracking range} of each other.
+     * <p>
+     * If the tracking range is zero or less, then the distance
+     * is not checked, but the target still has to be visible
+     * and in the same world.
+     *
+     * @param viewer The player that would see the target.
+     * @param target The player to see.
+     * @return If the viewer can see the target.
+     */
+    public static boolean canSee(Player viewer, Player target) {
+
+        if (viewer.equals(target) || !viewer.canSee(target)) {
+            return false;
+        }
+
+        Location[] scratch = SCRATCH.get();
+        Location from = viewer.getLocation(scratch[0]), to = target.getLocation(scratch[1]);
+        if (!from.getWorld().equals(to.getWorld())) {
+            return false;
+        }
+
+        int range = SBPlugin.getTrackingRange();
+        return range <= 0 || from.distanceSquared(to) <= (double) range * range;
+    }
+
+    /**
+     * Send the given player the current name and below name score
+     * of every player that it can now see, and send every player
+     * that can now see the given player its current state, if they
+     * have not received the latest version yet.
+     * <p>
+     * This is needed whenever a player can suddenly see others
+     * without moving (e.g. after changing worlds or after being
+     * shown with {@link Player#showPlayer(Player)}).
+     * This must be called from the main thread.
+     *
+     * @param player The player whose visibility changed.
+     */
+    public static void resync(Player player) {
+
+        Map<Player, List<Object>> batches = new HashMap<>();
+        for (Player other : Roster.getOnline()) {
+
+            if (canSee(other, player)) {
+                addMissing(batches, other, player);
+            }
+
+            if (canSee(player, other)) {
+                addMissing(batches, player, other);
+            }
+        }
+
+        batches.forEach(Scoreboard::sendPacket);
+    }
+
+    /**
+     * Send the current name and below name score of every player
+     * to the players that can see them, but have not yet received
+     * the latest version of them. Every viewer receives everything
+     * that it is missing as a single batch.
+     * <p>
+     * Two players can only come into view of each other if at
+     * least one of them has moved since the last resync, so only
+     * the players that have moved are compared, and only against
+     * the players that are near enough to possibly be in range.
+     * This must be called from the main thread.
+     */
+    public static void resync() {
+
+        int range = SBPlugin.getTrackingRange();
+        if (range <= 0) {
+            return; // Every update is already sent to every player
+        }
+
+        int stamp = ++Interest.stamp;
+        Location scratch = SCRATCH.get()[0];
+        List<Position> moved = new ArrayList<>();
+        // Split every world into cells as wide as the tracking range, so
+        // any player in range of another is in one of the 9 cells around it
+        Map<World, Map<Long, List<Position>>> cells = new HashMap<>();
+        for (Player player : Roster.getOnline()) {
+
+            Position position = POSITIONS.computeIfAbsent(player, Position::new);
+            position.stamp = stamp;
+            if (position.update(player.getLocation(scratch), range)) {
+                moved.add(position);
+            }
+
+            cells.computeIfAbsent(position.world, world -> new HashMap<>())
+                    .computeIfAbsent(key(position.cellX, position.cellZ), key -> new ArrayList<>()).add(position);
+        }
+
+        // Forget the players that have logged out
+        POSITIONS.values().removeIf(position -> position.stamp != stamp);
+        if (moved.isEmpty()) {
+            return;
+        }
+
+        double rangeSquared = (double) range * range;
+        Map<Player, List<Object>> batches = new HashMap<>();
+        for (Position position : moved) {
+
+            Map<Long, List<Position>> world = cells.get(position.world);
+            for (int x = position.cellX - 1; x <= position.cellX + 1; x++) {
+
+                for (int z = position.cellZ - 1; z <= position.cellZ + 1; z++) {
+
+                    List<Position> cell = world.get(key(x, z));
+                    if (cell == null) {
+                        continue;
+                    }
+
+                    for (Position other : cell) {
+
+                        if (other == position || position.distanceSquared(other) > rangeSquared) {
+                            continue;
+                        }
+
+                        // Either could be missing the other's latest state
+                        addMissing(batches, other.player, position.player);
+                        addMissing(batches, position.player, other.player);
+                    }
+                }
+            }
+        }
+
+        batches.forEach(Scoreboard::sendPacket);
+    }
+
+    private static void addMissing(Map<Player, List<Object>> batches, Player viewer, Player target) {
+
+        if (!viewer.canSee(target)) {
+            return;
+        }
+
+        PlayerName name = PlayerName.get(target);
+        BelowName belowName = BelowName.get(target);
+        Object namePacket = name != null ? name.getUpdatePacket(viewer) : null;
+        Object scorePacket = belowName != null ? belowName.getUpdatePacket(viewer) : null;
+        if (namePacket != null || scorePacket != null) {
+
+            // Every batch is sent at the end of the resync
+            List<Object> batch = batches.computeIfAbsent(viewer, v -> new ArrayList<>());
+            if (namePacket != null) {
+                name.getStats().recordPacket(namePacket, 1);
+                batch.add(namePacket);
+            }
+
+            if (scorePacket != null) {
+                belowName.getStats().recordPacket(scorePacket, 1);
+                batch.add(scorePacket);
+            }
+        }
+    }
+
+    private static long key(int cellX, int cellZ) {
+        return (long) cellX << 32 | cellZ & 0xFFFFFFFFL;
+    }
+
+    private static final class Position {
+
+        private final Player player;
+        private World world;
+        private double x, y, z;
+        private int cellX, cellZ, stamp;
+
+        Position(Player player) {
+            this.player = player;
+        }
+
+        /**
+         * Move this position to the given location.
+         *
+         * @param location The current location of the player.
+         * @param range The tracking range to find the cell by.
+         * @return If the location is different from this position.
+         */
+        boolean update(Location location, int range) {
+
+            World world = location.getWorld();
+            double x = location.getX(), y = location.getY(), z = location.getZ();
+            if (world == this.world && x == this.x && y == this.y && z == this.z) {
+                return false;
+            }
+
+            this.world = world;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.cellX = (int) Math.floor(x / range);
+            this.cellZ = (int) Math.floor(z / range);
+            return true;
+        }
+
+        double distanceSquared(Position other) {
+            double dx = this.x - other.x, dy = this.y - other.y, dz = this.z - other.z;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    private Interest() {
+    }
+}
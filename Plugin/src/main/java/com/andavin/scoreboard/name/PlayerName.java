@@ -1,16 +1,22 @@
 package com.andavin.scoreboard.name;
 
+import com.andavin.scoreboard.ModuleRegistry;
+import com.andavin.scoreboard.ModuleStats;
+import com.andavin.scoreboard.Roster;
 import com.andavin.scoreboard.SBPlugin;
 import com.andavin.scoreboard.ScoreboardModule;
+import com.andavin.scoreboard.name.RankTeams.RankTeam;
 import com.andavin.scoreboard.protocol.Scoreboard;
 import com.andavin.scoreboard.util.Logger;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.metadata.MetadataValue;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * @since February 21, 2019
@@ -19,19 +25,47 @@ import java.util.List;
 public class PlayerName extends ScoreboardModule {
 
     public static final String METADATA = "sb-player-name";
+    private static final ModuleRegistry<PlayerName> REGISTRY = new ModuleRegistry<>();
     private final String team;
+    private boolean visible;
     private String prefix = "", suffix = "";
+    private String sentPrefix = "", sentSuffix = "";
+    private int version;
+    // The players that have the team on their client mapped to the version they have
+    // Weak so that players that leave are forgotten automatically
+    private final Map<Player, Integer> viewers = new WeakHashMap<>();
+    // The shared team and the member name when names are grouped
+    private RankTeam rank;
+    private String member;
+
+    /**
+     * Get the name module of the given player.
+     *
+     * @param player The player to get the module for.
+     * @return The module or {@code null} if the player has none.
+     */
+    @Nullable
+    public static PlayerName get(@Nonnull Player player) {
+        return REGISTRY.get(player);
+    }
+
+    /**
+     * Get all of the name modules of the players that are online.
+     *
+     * @return A view of all of the modules.
+     */
+    public static Collection<PlayerName> getAll() {
+        return REGISTRY.values();
+    }
 
     public PlayerName(@Nonnull Player player) {
 
         super(player);
-        this.team = "a-team-" + Scoreboard.getNextId();
-        List<MetadataValue> metadata = player.getMetadata(METADATA);
-        if (!metadata.isEmpty()) {
-            ((PlayerName) metadata.get(0).value()).destroy();
+        this.team = Scoreboard.getNextName('p');
+        PlayerName old = REGISTRY.register(this);
+        if (old != null) {
+            old.destroy();
         }
-
-        player.setMetadata(METADATA, new FixedMetadataValue(SBPlugin.getPlugin(), this));
     }
 
     /**
@@ -40,67 +74,210 @@ public class PlayerName extends ScoreboardModule {
      * <p>
      * If both prefix and suffix are {@code null}, then
      * the prefixes will be removed and not updated.
+     * <p>
+     * The update is sent at the end of the current tick and
+     * only the latest prefix and suffix given within a tick
+     * are sent. Players that already have the team only
+     * receive a single team update packet and nothing is
+     * sent if the prefix and suffix did not change.
      *
      * @param prefix The prefix to update to.
      * @param suffix The suffix to update to.
      */
-    public void update(String prefix, String suffix) {
+    public synchronized void update(String prefix, String suffix) {
 
-        if (this.destroyed) {
-            throw new IllegalArgumentException("[Player Name] Attempting to update a destroyed sidebar.");
+        if (!this.canUpdate("Player Name")) {
+            return;
+        }
+
+        this.getStats().recordUpdate();
+        this.visible = prefix != null || suffix != null;
+        this.prefix = prefix != null ? prefix.length() <= 16 ? prefix : prefix.substring(0, 16) : "";
+        this.suffix = suffix != null ? suffix.length() <= 16 ? suffix : suffix.substring(0, 16) : "";
+        this.queueFlush();
+    }
+
+    /**
+     * Update the previously set prefix and suffix for
+     * the player to another specific online player.
+     */
+    public synchronized void update(Player other) {
+
+        if (!this.canUpdate("Player Name")) {
+            return;
         }
 
         Player player = this.getPlayer();
         if (player == null) {
-            Logger.warn("[Player Name] Sidebar update attempt after player has logged out.");
+            Logger.debug("[Player Name] Update attempt after player has logged out.");
             return;
         }
 
-        this.prefix = prefix != null ? prefix.length() <= 16 ? prefix : prefix.substring(0, 16) : "";
-        this.suffix = suffix != null ? suffix.length() <= 16 ? suffix : suffix.substring(0, 16) : "";
-        Player[] players = Bukkit.getOnlinePlayers().toArray(new Player[0]);
-        for (Player online : players) {
+        Object packet = this.getUpdatePacket(player, other);
+        if (packet != null) {
+            this.getStats().recordPacket(packet, 1);
+            Scoreboard.sendPacket(other, packet);
+        }
+    }
 
-            if (online.equals(player)) {
-                continue;
-            }
+    /**
+     * Get the packet that will update the previously set prefix
+     * and suffix for the player to another specific online player
+     * without sending it. The other player is considered to have
+     * the latest version of the team once this is called.
+     * <p>
+     * The packet is not recorded in the {@link #getStats() statistics}
+     * of this name, so the caller should record it as it is sent.
+     *
+     * @param other The player that the packet will be sent to.
+     * @return The packet to send or {@code null} if there is nothing
+     *         to send or the other player is already up to date.
+     */
+    @Nullable
+    public synchronized Object getUpdatePacket(Player other) {
 
-            Scoreboard.removeTeam(online, this.team); // Remove the team just to be sure there's no conflicts
-            if (prefix != null || suffix != null) {
-                Scoreboard.createTeam(online, this.team, this.prefix, this.suffix, player.getDisplayName());
+        if (this.destroyed) {
+            return null;
+        }
+
+        Player player = this.getPlayer();
+        return player != null ? this.getUpdatePacket(player, other) : null;
+    }
+
+    private Object getUpdatePacket(Player player, Player other) {
+
+        if (SBPlugin.isGroupingNames()) {
+            // The other player has the teams, but may not know which one this player is on
+            if (this.rank == null || !RankTeams.hasTeams(other)) {
+                return null;
             }
+
+            Integer known = this.viewers.put(other, this.version);
+            return known == null || known != this.version ? this.rank.getAddPacket(this.member) : null;
+        }
+
+        if (!this.visible) {
+            return null;
         }
+
+        Integer known = this.viewers.put(other, this.version);
+        return known == null ?
+                Scoreboard.getCreateTeamPacket(this.team, this.sentPrefix, this.sentSuffix, player.getDisplayName()) :
+                known != this.version ? Scoreboard.getUpdateTeamPacket(this.team, this.sentPrefix, this.sentSuffix) : null;
     }
 
-    /**
-     * Update the previously set prefix and suffix for
-     * the player to another specific online player.
-     */
-    public void update(Player other) {
+    @Override
+    protected synchronized boolean flush() {
 
         if (this.destroyed) {
-            throw new IllegalArgumentException("[Player Name] Attempting to update a destroyed sidebar.");
+            return true;
         }
 
         Player player = this.getPlayer();
         if (player == null) {
-            Logger.warn("[Player Name] Sidebar update attempt after player has logged out.");
+            Logger.debug("[Player Name] Update attempt after player has logged out.");
+            return true;
+        }
+
+        if (SBPlugin.isGroupingNames()) {
+            // Everyone has every rank team so only the member moves
+            // and the move records its own duration
+            this.member = player.getDisplayName();
+            List<Player> told = new ArrayList<>();
+            RankTeam rank = RankTeams.move(this.rank, this.member, player, this.prefix, this.suffix,
+                    this.visible, told, this.getStats());
+            if (rank != this.rank) {
+                // The others are given the new rank once they can see this player
+                this.rank = rank;
+                this.version++;
+                for (Player viewer : told) {
+                    this.viewers.put(viewer, this.version);
+                }
+            }
+
+            this.sentPrefix = this.prefix;
+            this.sentSuffix = this.suffix;
+            return true;
+        }
+
+        long start = System.nanoTime();
+        this.send(player);
+        ModuleStats.recordDuration(System.nanoTime() - start);
+        return true;
+    }
+
+    private void send(Player player) {
+
+        if (!this.visible) {
+
+            if (!this.viewers.isEmpty()) {
+                Object packet = Scoreboard.getRemoveTeamPacket(this.team);
+                this.getStats().recordPacket(packet, this.viewers.size());
+                Scoreboard.broadcast(this.viewers.keySet(), null, packet);
+                this.viewers.clear();
+            }
+
             return;
         }
 
-        Scoreboard.removeTeam(other, this.team); // Remove the team just to be sure there's no conflicts
-        if (!prefix.isEmpty() || !suffix.isEmpty()) {
-            Scoreboard.createTeam(other, this.team, this.prefix, this.suffix, player.getDisplayName());
+        if (!this.prefix.equals(this.sentPrefix) || !this.suffix.equals(this.sentSuffix)) {
+            this.version++;
+            this.sentPrefix = this.prefix;
+            this.sentSuffix = this.suffix;
+        }
+
+        // Only the players that can see the name need it now and
+        // the others will be given the latest version when they can
+        List<Player> created = new ArrayList<>(), updated = new ArrayList<>();
+        for (Player online : Roster.getOnline()) {
+
+            if (!Interest.canSee(online, player)) {
+                continue;
+            }
+
+            Integer known = this.viewers.put(online, this.version);
+            if (known == null) {
+                created.add(online);
+            } else if (known != this.version) {
+                updated.add(online);
+            }
+        }
+
+        // The packets are the same for every player so only create them once
+        if (!updated.isEmpty()) {
+            Object packet = Scoreboard.getUpdateTeamPacket(this.team, this.prefix, this.suffix);
+            this.getStats().recordPacket(packet, updated.size());
+            Scoreboard.broadcast(updated, null, packet);
         }
+
+        if (!created.isEmpty()) {
+            Object packet = Scoreboard.getCreateTeamPacket(this.team, this.prefix, this.suffix, player.getDisplayName());
+            this.getStats().recordPacket(packet, created.size());
+            Scoreboard.broadcast(created, null, packet);
+        }
+    }
+
+    /**
+     * Get the packets that will create every shared rank team with
+     * all of its members when {@link SBPlugin#isGroupingNames() grouping}.
+     * This must be sent to a player right away when they join, since
+     * the player is sent every change to the rank teams from now on.
+     *
+     * @param player The player that the packets will be sent to.
+     * @return The new packets, one per rank team.
+     */
+    public static List<Object> getRankPackets(@Nonnull Player player) {
+        return RankTeams.getCreatePackets(player);
     }
 
     @Override
-    public void destroy() {
+    public synchronized void destroy() {
 
         super.destroy();
-        Player player = this.getPlayer();
-        if (player != null) {
-            player.removeMetadata(METADATA, SBPlugin.getPlugin());
+        REGISTRY.unregister(this);
+        if (this.rank != null) {
+            this.rank = RankTeams.move(this.rank, this.member, this.getPlayer(), null, null,
+                    false, new ArrayList<>(), this.getStats());
         }
     }
 }
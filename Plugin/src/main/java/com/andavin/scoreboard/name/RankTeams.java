@@ -0,0 +1,197 @@
+package com.andavin.scoreboard.name;
+
+import com.andavin.scoreboard.ModuleStats;
+import com.andavin.scoreboard.Roster;
+import com.andavin.scoreboard.protocol.Scoreboard;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * The teams that are shared by every player with the same prefix
+ * and suffix when {@link PlayerName player names} are grouped. Every
+ * online player has every one of these teams, so a client only has
+ * as many teams as there are different ranks and a rank change only
+ * moves a single member from one team to another.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+final class RankTeams {
+
+    private static final Map<String, RankTeam> TEAMS = new HashMap<>();
+    // The players that have been sent every team, which are the only
+    // ones that can be sent changes to them (weak so they are forgotten)
+    private static final Set<Player> VIEWERS = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /**
+     * Move a member from its current team to the team for the
+     * given prefix and suffix.
+     * <p>
+     * If the current team is left empty it is removed and, if
+     * there is no team for the prefix and suffix, it is created.
+     * Changes to the teams themselves are sent to every player
+     * that {@link #getCreatePackets(Player) has the teams}, but
+     * joining the new team is only sent to the players that can
+     * {@link Interest#canSee(Player, Player) see} the member. The
+     * others should be given the {@link RankTeam#getAddPacket(String)
+     * new team} once they can see the member.
+     * <p>
+     * Since a client may still have the member on an older team, the
+     * member is never removed from a team without first being added
+     * to it (adding a member to a team moves it on the client).
+     *
+     * @param from The team the member is currently on (may be {@code null}).
+     * @param member The name of the member to move.
+     * @param player The player that is the member (may be {@code null} if it logged out).
+     * @param prefix The prefix of the team to move to.
+     * @param suffix The suffix of the team to move to.
+     * @param visible If the member should be moved to a team at all or only removed.
+     * @param told The list to add every player to that now knows the team the member is on.
+     * @param stats The statistics to record the sent packets to.
+     * @return The team that the member is now on or {@code null} if not on any team.
+     */
+    static synchronized RankTeam move(RankTeam from, String member, Player player, String prefix, String suffix,
+                                      boolean visible, List<Player> told, ModuleStats stats) {
+
+        RankTeam to = visible ? TEAMS.computeIfAbsent(prefix + '\0' + suffix,
+                key -> new RankTeam(key, prefix, suffix)) : null;
+        if (to == from) {
+            return from;
+        }
+
+        // The packets are the same for every player so only create them once
+        long start = System.nanoTime();
+        List<Object> shared = new ArrayList<>(2);
+        if (from != null) {
+
+            from.members.remove(member);
+            if (from.members.isEmpty()) {
+                TEAMS.remove(from.key);
+                shared.add(Scoreboard.getRemoveTeamPacket(from.name));
+            } else if (to == null) {
+                shared.add(Scoreboard.getAddMembersPacket(from.name, member));
+                shared.add(Scoreboard.getRemoveMembersPacket(from.name, member));
+            }
+        }
+
+        Object joined = null;
+        if (to != null) {
+
+            if (to.members.isEmpty()) {
+                shared.add(Scoreboard.getCreateTeamPacket(to.name, to.prefix, to.suffix, new String[] { member }));
+            } else {
+                joined = to.getAddPacket(member);
+            }
+
+            to.members.add(member);
+        }
+
+        List<Object> packets = shared;
+        if (joined != null) {
+            packets = new ArrayList<>(shared);
+            packets.add(joined);
+        }
+
+        int viewers = 0, seeing = 0;
+        for (Player viewer : Roster.getOnline()) {
+
+            if (!VIEWERS.contains(viewer)) {
+                continue;
+            }
+
+            viewers++;
+            boolean sees = joined == null || player != null && Interest.canSee(viewer, player);
+            List<Object> batch = sees ? packets : shared;
+            if (!batch.isEmpty()) {
+                Scoreboard.sendShared(viewer, batch);
+            }
+
+            if (sees) {
+                told.add(viewer);
+                seeing++;
+            }
+        }
+
+        // Only shares were sent, so the originals can still be measured
+        stats.recordPackets(shared, viewers);
+        for (int i = 0; i < shared.size(); i++) {
+            Scoreboard.releaseShared(shared.get(i));
+        }
+
+        if (joined != null) {
+            stats.recordPacket(joined, seeing);
+            Scoreboard.releaseShared(joined);
+        }
+
+        ModuleStats.recordDuration(System.nanoTime() - start);
+        return to;
+    }
+
+    /**
+     * Get the packets that will create every team with all of
+     * its members for a player that does not have them yet. The
+     * player is sent every change to the teams from now on, so
+     * the packets must be sent to the player right away on the
+     * main thread, before any other team changes.
+     *
+     * @param viewer The player that the packets will be sent to.
+     * @return The new packets, one per team.
+     */
+    static synchronized List<Object> getCreatePackets(Player viewer) {
+
+        VIEWERS.add(viewer);
+        List<Object> packets = new ArrayList<>(TEAMS.size());
+        for (RankTeam team : TEAMS.values()) {
+            packets.add(Scoreboard.getCreateTeamPacket(team.name, team.prefix, team.suffix,
+                    team.members.toArray(new String[0])));
+        }
+
+        return packets;
+    }
+
+    /**
+     * Tell if the given player has been sent every team and
+     * is being sent every change to them.
+     *
+     * @param viewer The player to test.
+     * @return If the player has the teams.
+     */
+    static synchronized boolean hasTeams(Player viewer) {
+        return VIEWERS.contains(viewer);
+    }
+
+    static final class RankTeam {
+
+        private final String key, name, prefix, suffix;
+        private final Set<String> members = new LinkedHashSet<>();
+
+        RankTeam(String key, String prefix, String suffix) {
+            this.key = key;
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.name = Scoreboard.getNextName('r');
+        }
+
+        /**
+         * Get the packet that will add the given member to this
+         * team and, on the client, remove it from any other team.
+         *
+         * @param member The member to add.
+         * @return The new packet.
+         */
+        Object getAddPacket(String member) {
+            return Scoreboard.getAddMembersPacket(this.name, member);
+        }
+    }
+
+    private RankTeams() {
+    }
+}
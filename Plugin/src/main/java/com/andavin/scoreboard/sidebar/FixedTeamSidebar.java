@@ -0,0 +1,155 @@
+package com.andavin.scoreboard.sidebar;
+
+import com.andavin.scoreboard.protocol.Scoreboard;
+import com.andavin.scoreboard.util.Limiter;
+import com.andavin.scoreboard.util.Logger;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link Sidebar} where every row has a fixed, invisible entry
+ * that is bound to the team of that row once when the row is
+ * created. The text of a row is displayed entirely by the prefix
+ * and suffix of its team, so changing the text of a row only takes
+ * a single team update packet.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+class FixedTeamSidebar extends Sidebar {
+
+    private static final int PART_LENGTH = 16, MAX_LINE_LENGTH = PART_LENGTH * 2;
+    private static final String[] ENTRIES, SHARED_ENTRIES;
+    private static final String[] TEAMS, SHARED_TEAMS;
+
+    static {
+        // A color code followed by a reset is unique per row and displays nothing
+        // and an entry can only be in one team, so shared rows add a second reset
+        ChatColor[] colors = ChatColor.values();
+        ENTRIES = new String[colors.length];
+        SHARED_ENTRIES = new String[colors.length];
+        TEAMS = new String[colors.length];
+        SHARED_TEAMS = new String[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            ENTRIES[i] = colors[i].toString() + ChatColor.RESET;
+            SHARED_ENTRIES[i] = ENTRIES[i] + ChatColor.RESET;
+            TEAMS[i] = Scoreboard.getRowName(i);
+            SHARED_TEAMS[i] = Scoreboard.getSharedRowName(i);
+        }
+    }
+
+    FixedTeamSidebar(@Nonnull Player player, String displayName, Limiter limiter) {
+        super(player, displayName, limiter, SidebarType.FIXED);
+    }
+
+    /**
+     * Copy the given lines and cut them down to the maximum
+     * amount of rows and characters that can be displayed.
+     *
+     * @param lines The lines to copy.
+     * @return The new copy of the lines.
+     */
+    static String[] normalize(String[] lines) {
+
+        if (lines.length > ENTRIES.length) {
+            Logger.warn("[Fixed] Only {} lines can be displayed, but {} were given.", ENTRIES.length, lines.length);
+        }
+
+        return truncate(lines, Math.min(lines.length, ENTRIES.length), MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Create the packets that will change the lines of text from the
+     * old lines to the new lines. These packets do not depend on the
+     * player and can be sent to every player that is currently
+     * displaying the old lines.
+     *
+     * @param objName The name of the objective the lines are in.
+     * @param shared If the lines are shown by a {@link SharedSidebar}.
+     * @param oldLines The lines that are currently displayed.
+     * @param lines The new lines to display.
+     * @return The packets to send.
+     */
+    static List<Object> diff(String objName, boolean shared, String[] oldLines, String[] lines) {
+
+        // The team packets are sent before any of the score packets
+        // so that a new row never shows its entry without its team
+        String[] entries = shared ? SHARED_ENTRIES : ENTRIES, teams = shared ? SHARED_TEAMS : TEAMS;
+        int size = lines.length, oldSize = oldLines.length;
+        List<Object> packets = new ArrayList<>(size + 2);
+        List<Object> scores = new ArrayList<>(2);
+        for (int i = oldSize - 1; size <= i; i--) {
+            // Remove the rows that are no longer displayed
+            scores.add(Scoreboard.getRemovePacket(objName, entries[i]));
+            packets.add(Scoreboard.getRemoveTeamPacket(teams[i]));
+        }
+
+        for (int i = 0; i < size; i++) {
+
+            String line = lines[i];
+            if (i < oldSize) {
+
+                if (!line.equals(oldLines[i])) {
+                    packets.add(Scoreboard.getUpdateTeamPacket(teams[i], getPrefix(line), getSuffix(line)));
+                }
+
+                if (size == oldSize) {
+                    continue; // The score stays the same
+                }
+            } else {
+                packets.add(Scoreboard.getCreateTeamPacket(teams[i], getPrefix(line), getSuffix(line), entries[i]));
+            }
+
+            scores.add(Scoreboard.getAddPacket(objName, entries[i], size - i));
+        }
+
+        packets.addAll(scores);
+        return packets;
+    }
+
+    /**
+     * Create the packets that will remove the team of every
+     * row of the given lines.
+     *
+     * @param shared If the lines are shown by a {@link SharedSidebar}.
+     * @param lines The lines that are currently displayed.
+     * @return The packets to send.
+     */
+    static List<Object> clear(boolean shared, String[] lines) {
+
+        String[] teams = shared ? SHARED_TEAMS : TEAMS;
+        List<Object> packets = new ArrayList<>(lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            packets.add(Scoreboard.getRemoveTeamPacket(teams[i]));
+        }
+
+        return packets;
+    }
+
+    private static String getPrefix(String line) {
+
+        if (line.length() <= PART_LENGTH) {
+            return line;
+        }
+
+        // Never split a color code between the prefix and suffix
+        int split = line.charAt(PART_LENGTH - 1) == ChatColor.COLOR_CHAR ? PART_LENGTH - 1 : PART_LENGTH;
+        return line.substring(0, split);
+    }
+
+    private static String getSuffix(String line) {
+
+        if (line.length() <= PART_LENGTH) {
+            return "";
+        }
+
+        // Continue the colors of the prefix into the suffix
+        String prefix = getPrefix(line);
+        String suffix = ChatColor.getLastColors(prefix) + line.substring(prefix.length());
+        return suffix.length() <= PART_LENGTH ? suffix : suffix.substring(0, PART_LENGTH);
+    }
+}
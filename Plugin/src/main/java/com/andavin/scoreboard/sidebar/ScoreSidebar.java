@@ -2,11 +2,11 @@ package com.andavin.scoreboard.sidebar;
 
 import com.andavin.scoreboard.protocol.Scoreboard;
 import com.andavin.scoreboard.util.Limiter;
-import com.andavin.scoreboard.util.Logger;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -19,63 +19,88 @@ class ScoreSidebar extends Sidebar {
     private static final int MAX_LINE_LENGTH = 40;
 
     ScoreSidebar(@Nonnull Player player, String displayName, Limiter limiter) {
-        super(player, displayName, limiter);
+        super(player, displayName, limiter, SidebarType.SCORE);
     }
 
-    @Override
-    public void display(String... lines) {
-
-        if (this.limiter.isLimited()) {
-            return;
-        }
-
-        if (this.destroyed) {
-            throw new IllegalArgumentException("[Score] Attempting to update a destroyed sidebar.");
-        }
+    /**
+     * Copy the given lines and cut them down to the maximum
+     * amount of characters a score line can display.
+     *
+     * @param lines The lines to copy.
+     * @return The new copy of the lines.
+     */
+    static String[] normalize(String[] lines) {
+        return truncate(lines, lines.length, MAX_LINE_LENGTH);
+    }
 
-        Player player = this.getPlayer();
-        if (player == null) {
-            Logger.warn("[Score] Sidebar update attempt after player has logged out.");
-            return;
-        }
+    /**
+     * Create the packets that will change the lines of text from the
+     * old lines to the new lines. These packets do not depend on the
+     * player and can be sent to every player that is currently
+     * displaying the old lines.
+     * <p>
+     * Lines are matched by their text rather than their index, so a
+     * line whose text is unchanged is never removed and only sends a
+     * new score if its score changed. The scores are displayed next
+     * to the lines, so they always count down to one at the bottom.
+     * Inserting a line therefore changes the score of every line
+     * above it: an insertion at the top sends a single packet, but
+     * an append at the bottom sends one packet for every line.
+     *
+     * @param objName The name of the objective the lines are in.
+     * @param shared If the lines are shown by a {@link SharedSidebar} (unused since there are no teams).
+     * @param oldLines The lines that are currently displayed.
+     * @param lines The new lines to display.
+     * @return The packets to send.
+     */
+    static List<Object> diff(String objName, boolean shared, String[] oldLines, String[] lines) {
 
-        this.limiter.update();
         // Queue up the packets so that they all send at the same time
         // with minimal delay due to reflection or other things we can avoid
-        List<Object> packets = new ArrayList<>(lines.length * 2);
-        int i = 0;
-        for (; i < lines.length; i++) {
+        List<Object> packets = new ArrayList<>(lines.length);
+        // Remove the lines that are no longer displayed at all first
+        // so that there is never a point where there are too many lines
+        for (String old : oldLines) {
 
-            String newLine = lines[i];
-            if (newLine.length() > MAX_LINE_LENGTH) {
-                newLine = newLine.substring(0, MAX_LINE_LENGTH);
+            if (indexOf(lines, old) == -1) {
+                packets.add(Scoreboard.getRemovePacket(objName, old));
             }
+        }
 
-            String old = i < this.oldLines.size() ? this.oldLines.get(i) : null;
-            if (old != null) {
-                // Only replace the line packet-wise if it's different
-                if (!old.equals(newLine)) {
-                    this.oldLines.set(i, newLine);
-                    packets.add(Scoreboard.getRemovePacket(this.objName, old));
-                }
-            } else {
-                // If there was no old line for the index
-                // that means that lines were added
-                this.oldLines.add(newLine);
+        for (int i = 0; i < lines.length; i++) {
+            // The score is the only thing that can change for a line that
+            // is still displayed, so only send it if the line is new or moved
+            int score = lines.length - i, oldIndex = indexOf(oldLines, lines[i]);
+            if (oldIndex == -1 || oldLines.length - oldIndex != score) {
+                packets.add(Scoreboard.getAddPacket(objName, lines[i], score));
             }
-
-            // We're always adding/updating a line...
-            packets.add(Scoreboard.getAddPacket(this.objName, newLine, lines.length - i));
         }
 
-        // If say they removed some lines from last time
-        // we need to account for those and remove them
-        int currentLines = i;
-        for (i = this.oldLines.size() - 1; currentLines <= i; i--) {
-            packets.add(0, Scoreboard.getRemovePacket(this.objName, this.oldLines.remove(i)));
+        return packets;
+    }
+
+    /**
+     * Create the packets that will remove everything outside of the
+     * objective for the given lines. Score lines only exist in the
+     * objective, so there is nothing to remove.
+     *
+     * @param shared If the lines are shown by a {@link SharedSidebar}.
+     * @param lines The lines that are currently displayed.
+     * @return The packets to send (always empty).
+     */
+    static List<Object> clear(boolean shared, String[] lines) {
+        return Collections.emptyList();
+    }
+
+    private static int indexOf(String[] lines, String line) {
+
+        for (int i = 0; i < lines.length; i++) {
+
+            if (lines[i].equals(line)) {
+                return i;
+            }
         }
 
-        Scoreboard.sendPacket(player, packets);
-        this.updateStatistics(player);
+        return -1;
     }
 }
@@ -0,0 +1,293 @@
+package com.andavin.scoreboard.sidebar;
+
+import com.andavin.scoreboard.ModuleStats;
+import com.andavin.scoreboard.SBPlugin;
+import com.andavin.scoreboard.ScoreboardModule;
+import com.andavin.scoreboard.protocol.Scoreboard;
+import com.andavin.scoreboard.util.Limiter;
+import com.andavin.scoreboard.util.NoLimit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.DisplaySlot;
+
+import javax.annotation.Nonnull;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A sidebar template that displays the same lines to any amount
+ * of viewers. The difference between the old and new lines is
+ * only calculated once per update and the resulting packets are
+ * sent to every viewer, so an update costs the amount of changed
+ * lines plus one send per viewer.
+ * <p>
+ * This should be used over a {@link Sidebar} per player whenever
+ * many players see the exact same lines (e.g. a minigame sidebar).
+ * Viewers are removed automatically when they log out.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class SharedSidebar extends ScoreboardModule {
+
+    /**
+     * Create a new shared sidebar with the initial display name
+     * and the same default limit as {@link Sidebar#create(Player, String)}.
+     * The sidebar has no viewers until they are {@link #addViewer(Player) added}.
+     *
+     * @param displayName The initial display name of the sidebar.
+     * @return The new {@link SharedSidebar instance}.
+     */
+    @ParametersAreNonnullByDefault
+    public static SharedSidebar create(String displayName) {
+        return SharedSidebar.create(displayName, new Limiter(100L, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Create a new shared sidebar with the initial display name.
+     * Note that if the limit is to be removed that {@link NoLimit}
+     * should be used over a zero value (should never be {@code null}).
+     *
+     * @param displayName The initial display name of the sidebar.
+     * @param limiter The {@link Limiter} to limit how fast the sidebar can be updated.
+     * @return The new {@link SharedSidebar instance}.
+     */
+    @ParametersAreNonnullByDefault
+    public static SharedSidebar create(String displayName, Limiter limiter) {
+        return new SharedSidebar(SBPlugin.getSideBarType(), displayName, limiter);
+    }
+
+    private String displayName;
+    private final String objName;
+    private final SidebarType type;
+    private final Limiter limiter;
+    private String[] lines = Sidebar.EMPTY;
+    private final Map<UUID, Player> viewers = new ConcurrentHashMap<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicReference<String[]> pending = new AtomicReference<>();
+
+    private SharedSidebar(SidebarType type, String displayName, Limiter limiter) {
+        super();
+        this.type = type;
+        this.limiter = limiter;
+        this.displayName = displayName;
+        this.objName = Scoreboard.getNextName('o');
+    }
+
+    /**
+     * Get the players that are currently viewing this sidebar.
+     *
+     * @return The viewers of this sidebar.
+     */
+    public Collection<Player> getViewers() {
+        return this.viewers.values();
+    }
+
+    /**
+     * Start showing this sidebar to the given player. The
+     * current lines are sent to the player right away and
+     * the player will receive every update from now on.
+     * <p>
+     * If the player is already a viewer, then this does nothing
+     * unless the player has since logged back in.
+     *
+     * @param player The player to add as a viewer.
+     */
+    public synchronized void addViewer(@Nonnull Player player) {
+
+        if (this.destroyed) {
+            throw new IllegalArgumentException("[Shared] Attempting to add a viewer to a destroyed sidebar.");
+        }
+
+        // Replace a player that logged out with the new one or else
+        // the player that logged back in would never see this sidebar
+        Player previous = this.viewers.put(player.getUniqueId(), player);
+        if (previous == player && player.isOnline()) {
+            return;
+        }
+
+        // Replay the current state by creating every line from nothing
+        long start = System.nanoTime();
+        List<Object> packets = new ArrayList<>(Scoreboard.getCreateObjectivePackets(
+                this.displayName, this.objName, DisplaySlot.SIDEBAR));
+        packets.addAll(this.type.diff(this.objName, true, Sidebar.EMPTY, this.lines));
+        this.getStats().recordPackets(packets, 1);
+        Scoreboard.sendPacket(player, packets);
+        ModuleStats.recordDuration(System.nanoTime() - start);
+    }
+
+    /**
+     * Stop showing this sidebar to the given player. The objective
+     * and the teams of its rows are removed from the player.
+     *
+     * @param player The player to remove as a viewer.
+     */
+    public synchronized void removeViewer(@Nonnull Player player) {
+
+        if (this.viewers.remove(player.getUniqueId()) != null && !this.destroyed && player.isOnline()) {
+            Scoreboard.sendPacket(player, this.getRemovePackets());
+        }
+    }
+
+    /**
+     * Set the display name of this sidebar for all of its viewers.
+     *
+     * @param displayName The new display name.
+     */
+    public synchronized void setDisplayName(String displayName) {
+
+        this.displayName = displayName;
+        if (!this.destroyed) {
+            Scoreboard.broadcast(this.viewers.values(), null, Scoreboard.getDisplayNamePacket(displayName, this.objName));
+        }
+    }
+
+    /**
+     * Display lines of text in the sidebar for every viewer.
+     * <p>
+     * This follows the same rules as {@link Sidebar#display(String...)}
+     * for {@link SBPlugin#isCoalescing() coalescing} and limiting, but
+     * the lines are only compared once no matter how many viewers
+     * there are.
+     *
+     * @param lines The lines to send to the viewers.
+     */
+    public void display(List<String> lines) {
+        this.display(lines.toArray(new String[0]));
+    }
+
+    /**
+     * Display lines of text in the sidebar for every viewer.
+     * <p>
+     * This follows the same rules as {@link Sidebar#display(String...)}
+     * for {@link SBPlugin#isCoalescing() coalescing} and limiting, but
+     * the lines are only compared once no matter how many viewers
+     * there are.
+     *
+     * @param lines The lines to send to the viewers.
+     */
+    public void display(String... lines) {
+
+        if (this.destroyed) {
+            throw new IllegalArgumentException("[Shared] Attempting to update a destroyed sidebar.");
+        }
+
+        this.getStats().recordUpdate();
+        if (SBPlugin.isCoalescing()) {
+            this.pending.set(lines);
+            this.queueFlush();
+        } else if (this.limiter.isLimited()) {
+            this.getStats().recordThrottled();
+            this.pending.set(lines);
+            if (!this.limiter.scheduleTrailing(this::queueFlush)) {
+                this.pending.compareAndSet(lines, null);
+            }
+        } else {
+            this.pending.set(lines);
+            this.drain();
+        }
+    }
+
+    /**
+     * Destroy this sidebar and remove it from every viewer.
+     * After calling this method, this sidebar can no longer
+     * be used.
+     */
+    @Override
+    public synchronized void destroy() {
+
+        if (!this.destroyed) {
+            super.destroy();
+            Scoreboard.broadcast(this.viewers.values(), null, this.getRemovePackets());
+            this.viewers.clear();
+        }
+    }
+
+    @Override
+    protected void onLogout(UUID uuid) {
+        this.viewers.remove(uuid);
+    }
+
+    @Override
+    protected boolean flush() {
+
+        if (this.destroyed) {
+            return true;
+        }
+
+        if (this.limiter.isLimited()) {
+            // Keep the latest lines until the limit is up and
+            // let the limiter queue this again if it can
+            return this.limiter.scheduleTrailing(this::queueFlush);
+        }
+
+        this.drain();
+        return true;
+    }
+
+    /**
+     * Render the pending lines unless another thread is already
+     * rendering, in which case that thread will render them. This
+     * works the same way as the drain of a {@link Sidebar}, so the
+     * latest lines given are always the last ones rendered.
+     */
+    private void drain() {
+
+        if (this.wip.getAndIncrement() != 0) {
+            return; // The rendering thread will pick up the lines
+        }
+
+        int missed = 1;
+        try {
+
+            do {
+
+                String[] lines = this.pending.getAndSet(null);
+                if (lines != null) {
+                    this.render(lines);
+                }
+
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        } catch (RuntimeException e) {
+            this.wip.set(0); // Never leave this sidebar unable to render
+            throw e;
+        }
+    }
+
+    private List<Object> getRemovePackets() {
+
+        // The teams are only removed after the objective so
+        // that the rows never show without their text
+        List<Object> packets = new ArrayList<>();
+        packets.add(Scoreboard.getDeleteObjectivePacket(this.objName));
+        packets.addAll(this.type.clear(true, this.lines));
+        return packets;
+    }
+
+    private synchronized void render(String[] lines) {
+
+        if (this.destroyed) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        this.limiter.update();
+        String[] next = this.type.normalize(lines);
+        List<Object> packets = this.type.diff(this.objName, true, this.lines, next);
+        this.lines = next;
+        if (!packets.isEmpty()) {
+            this.getStats().recordPackets(packets, this.viewers.size());
+            Scoreboard.broadcast(this.viewers.values(), null, packets);
+        }
+
+        ModuleStats.recordDuration(System.nanoTime() - start);
+    }
+}
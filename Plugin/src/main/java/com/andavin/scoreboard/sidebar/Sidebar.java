@@ -1,9 +1,11 @@
 package com.andavin.scoreboard.sidebar;
 
+import com.andavin.scoreboard.ModuleStats;
 import com.andavin.scoreboard.SBPlugin;
 import com.andavin.scoreboard.ScoreboardModule;
 import com.andavin.scoreboard.protocol.Scoreboard;
 import com.andavin.scoreboard.util.Limiter;
+import com.andavin.scoreboard.util.Logger;
 import com.andavin.scoreboard.util.NoLimit;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.DisplaySlot;
@@ -13,8 +15,8 @@ import javax.annotation.ParametersAreNonnullByDefault;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
-
-import static java.util.Collections.synchronizedList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Created on March 13, 2018
@@ -23,6 +25,8 @@ import static java.util.Collections.synchronizedList;
  */
 public abstract class Sidebar extends ScoreboardModule {
 
+    static final String[] EMPTY = new String[0];
+
     /**
      * Create a new sidebar for the given player and with the initial display name.
      * <p>
@@ -31,6 +35,8 @@ public abstract class Sidebar extends ScoreboardModule {
      * in the sidebar while still being an extremely fast update speed.
      * <br>
      * This can be changed using the {@link #create(Player, String, Limiter)} method.
+     * A {@link com.andavin.scoreboard.util.TokenBucketLimiter} is a good choice for
+     * sidebars that are updated in bursts.
      *
      * @param player The player that this sidebar will be shown to.
      * @param displayName The initial display name of the sidebar.
@@ -56,22 +62,20 @@ public abstract class Sidebar extends ScoreboardModule {
         return SBPlugin.getSideBarType().newInstance(player, displayName, limiter);
     }
 
-//    private static final long MAX_LOG_TIME = TimeUnit.MINUTES.toMillis(2);
-
-    // Tracker values for how often the scoreboard
-    // actually updates for the player
-//    private long lastUpdate, lastAverageTaken, lastAverage;
-//    private final List<Long> updateIntervals = new LinkedList<>();
-
-    boolean destroyed;
     final String objName;
     final Limiter limiter;
-    final List<String> oldLines = synchronizedList(new ArrayList<>(19));
+    private final SidebarType type;
+    // An immutable snapshot of the lines that are displayed
+    // which is only replaced by the thread that is rendering
+    private volatile String[] lines = EMPTY;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicReference<String[]> pending = new AtomicReference<>();
 
-    Sidebar(@Nonnull Player player, String displayName, Limiter limiter) {
+    Sidebar(@Nonnull Player player, String displayName, Limiter limiter, SidebarType type) {
         super(player);
+        this.type = type;
         this.limiter = limiter;
-        this.objName = "obj-" + Scoreboard.getNextId();
+        this.objName = Scoreboard.getNextName('o');
         Scoreboard.createObjective(player, displayName, this.objName, DisplaySlot.SIDEBAR);
     }
 
@@ -93,13 +97,22 @@ public abstract class Sidebar extends ScoreboardModule {
         }
     }
 
+    /**
+     * Destroy this sidebar and delete it from the player along
+     * with the teams of its rows. Otherwise, the next sidebar of
+     * the same {@link SidebarType type} could not create them again
+     * and would keep showing the text of this one.
+     */
     @Override
     public void destroy() {
 
         super.destroy();
         Player player = this.getPlayer();
         if (player != null) {
-            Scoreboard.deleteObjective(player, this.objName);
+            List<Object> packets = new ArrayList<>();
+            packets.add(Scoreboard.getDeleteObjectivePacket(this.objName));
+            packets.addAll(this.type.clear(false, this.lines));
+            Scoreboard.sendPacket(player, packets);
         }
     }
 
@@ -124,61 +137,150 @@ public abstract class Sidebar extends ScoreboardModule {
      * This method will schedule the task and then immediately
      * return. The update does not happen in this method, but
      * an unspecified amount of time after this method is called.
+     * <p>
+     * If {@link SBPlugin#isCoalescing() coalescing} is enabled,
+     * then this only records the lines and the latest lines given
+     * are rendered once on the next tick that this sidebar is not
+     * limited. The array must not be modified after it is given.
+     * <p>
+     * If this sidebar is limited and the {@link Limiter} supports
+     * a {@link Limiter#scheduleTrailing(Runnable) trailing edge},
+     * then the latest lines are rendered once the limit is up.
+     * Otherwise, limited lines are dropped.
+     * <p>
+     * This method can be called from any thread. If another thread
+     * is rendering at the same time, then it will render these lines
+     * after it is done instead, so the latest lines are always the
+     * last ones rendered.
      *
      * @param lines The lines to send to the player.
      */
-    public abstract void display(String... lines);
+    public void display(String... lines) {
+
+        if (!this.canUpdate("Sidebar")) {
+            return;
+        }
+
+        this.getStats().recordUpdate();
+        if (SBPlugin.isCoalescing()) {
+            this.pending.set(lines);
+            this.queueFlush();
+        } else if (this.limiter.isLimited()) {
+            this.getStats().recordThrottled();
+            this.pending.set(lines);
+            if (!this.limiter.scheduleTrailing(this::queueFlush)) {
+                this.pending.compareAndSet(lines, null);
+            }
+        } else {
+            this.pending.set(lines);
+            this.drain();
+        }
+    }
 
     /**
-     * Update a recalculate the basic timing statistics
-     * for this scoreboard of how often it updates for
-     * the player.
+     * Get the lines that are currently displayed in this sidebar.
+     * The returned array must not be modified.
      *
-     * @param player The player is being displayed to.
+     * @return The current lines.
      */
-    void updateStatistics(Player player) {
-
-//        long now = System.currentTimeMillis();
-//        if (this.lastUpdate > 0) {
-//            // Only calculate if we have received at least one update
-//            long diff = now - this.lastUpdate;
-//            this.updateIntervals.add(diff);
-//            int updateSize = this.updateIntervals.size();
-//            if (updateSize > 200 || now - this.lastAverageTaken > MAX_LOG_TIME) {
-//                // Calculate the average, log it and clear stats
-//                long average = 0, lastInterval = 0, fluctuation = 0;
-//                for (Long interval : this.updateIntervals) {
-//
-//                    if (lastInterval > 0) {
-//                        fluctuation = Math.max(interval - lastInterval, fluctuation);
-//                    }
-//
-//                    lastInterval = interval;
-//                    average += interval;
-//                }
-//
-//                average /= updateSize;
-//                if (SBPlugin.getPlugin().getConfig().getBoolean("debug")) {
-//
-//                    Logger.debug("Average display interval for {} is {} for {} records.", player.getName(),
-//                            TimeUtil.formatDifference(0, average, true, true), updateSize);
-//                    Logger.debug("The largest fluctuation in the interval logs was {}.",
-//                            TimeUtil.formatDifference(0, fluctuation, true, true));
-//
-//                    if (this.lastAverageTaken > 0) {
-//                        Logger.debug("The last average of {} was taken {} ago.",
-//                                TimeUtil.formatDifference(0, this.lastAverage, true, true),
-//                                TimeUtil.formatDifference(now, this.lastAverageTaken, true, true)
-//                        );
-//                    }
-//                }
-//
-//                this.lastAverage = average;
-//                this.lastAverageTaken = now;
-//                this.updateIntervals.clear();
-//            }
-//        }
-//
-//        this.lastUpdate = now;
+    public String[] getLines() {
+        return this.lines;
+    }
+
+    @Override
+    protected boolean flush() {
+
+        if (this.destroyed) {
+            return true;
+        }
+
+        if (this.limiter.isLimited()) {
+            // Keep the latest lines until the limit is up and
+            // let the limiter queue this again if it can
+            return this.limiter.scheduleTrailing(this::queueFlush);
+        }
+
+        this.drain();
+        return true;
+    }
+
+    /**
+     * Render the pending lines unless another thread is already
+     * rendering. The rendering thread keeps going until there are
+     * no more pending lines, so only one thread ever diffs against
+     * and replaces the current lines at a time and the packets are
+     * always sent in order without any locks.
+     */
+    private void drain() {
+
+        if (this.wip.getAndIncrement() != 0) {
+            return; // The rendering thread will pick up the lines
+        }
+
+        int missed = 1;
+        try {
+
+            do {
+
+                String[] lines = this.pending.getAndSet(null);
+                if (lines != null) {
+                    this.render(lines);
+                }
+
+                missed = this.wip.addAndGet(-missed);
+            } while (missed != 0);
+        } catch (RuntimeException e) {
+            this.wip.set(0); // Never leave this sidebar unable to render
+            throw e;
+        }
+    }
+
+    /**
+     * Render the given lines of text to the player by sending
+     * only the differences from the lines that are currently
+     * being displayed.
+     *
+     * @param lines The lines to send to the player.
+     */
+    private void render(String[] lines) {
+
+        if (this.destroyed) {
+            return;
+        }
+
+        Player player = this.getPlayer();
+        if (player == null) {
+            Logger.debug("[Sidebar] Update attempt after player has logged out.");
+            return;
+        }
+
+        long start = System.nanoTime();
+        this.limiter.update();
+        String[] next = this.type.normalize(lines);
+        List<Object> packets = this.type.diff(this.objName, false, this.lines, next);
+        this.lines = next;
+        this.getStats().recordPackets(packets, 1);
+        Scoreboard.sendPacket(player, packets);
+        ModuleStats.recordDuration(System.nanoTime() - start);
+    }
+
+    /**
+     * Copy the given lines and cut any line that is longer
+     * than the maximum length down to the maximum length.
+     *
+     * @param lines The lines to copy.
+     * @param size The amount of lines to copy.
+     * @param maxLength The maximum length of a line.
+     * @return The new copy of the lines.
+     */
+    static String[] truncate(String[] lines, int size, int maxLength) {
+
+        String[] copy = new String[size];
+        for (int i = 0; i < size; i++) {
+            String line = lines[i];
+            copy[i] = line.length() > maxLength ? line.substring(0, maxLength) : line;
+        }
+
+        return copy;
     }
 }
@@ -0,0 +1,321 @@
+package com.andavin.scoreboard.sidebar;
+
+import org.bukkit.ChatColor;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A compiled set of sidebar lines that contain placeholders in the
+ * form of {@code {name}} (e.g. {@code "&7Kills: {kills}"}). Each line
+ * is compiled once into static text and placeholders and the static
+ * text is translated from {@code &} color codes ahead of time.
+ * <p>
+ * Every placeholder keeps its current value and a dirty flag that is
+ * only set when the value actually changes. When {@link #update() updating},
+ * only the lines that contain a dirty placeholder are rebuilt and, if
+ * nothing has changed, nothing is allocated and nothing is displayed.
+ * <pre>
+ *     SidebarTemplate template = SidebarTemplate.compile("&amp;7Kills: {kills}", "&amp;7Map: {map}");
+ *     template.bind("kills", () -&gt; String.valueOf(stats.getKills()));
+ *     template.set("map", map.getName());
+ *     template.refresh(sidebar); // Each time the sidebar should be updated
+ * </pre>
+ * All of the methods of this class are thread safe.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class SidebarTemplate {
+
+    /**
+     * Compile the given lines into a new template. Any text inside
+     * of curly braces is a placeholder and the rest of the text is
+     * static and may contain {@code &} color codes.
+     *
+     * @param lines The lines to compile.
+     * @return The new compiled template.
+     */
+    public static SidebarTemplate compile(@Nonnull String... lines) {
+        return new SidebarTemplate(lines);
+    }
+
+    /**
+     * Compile the given lines into a new template.
+     *
+     * @param lines The lines to compile.
+     * @return The new compiled template.
+     * @see #compile(String...)
+     */
+    public static SidebarTemplate compile(@Nonnull List<String> lines) {
+        return new SidebarTemplate(lines.toArray(new String[0]));
+    }
+
+    private boolean initial = true;
+    private String[] current;
+    private final Line[] lines;
+    private final StringBuilder builder = new StringBuilder(64);
+    private final Map<String, Placeholder> placeholders = new HashMap<>();
+
+    private SidebarTemplate(String[] lines) {
+
+        this.lines = new Line[lines.length];
+        this.current = new String[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            this.lines[i] = this.parse(lines[i]);
+            this.current[i] = this.lines[i].build(this.builder);
+        }
+    }
+
+    /**
+     * Bind a source to a placeholder that will be polled for
+     * the value of the placeholder each time this template is
+     * {@link #update() updated}.
+     *
+     * @param placeholder The name of the placeholder without braces.
+     * @param source The source of the value for the placeholder.
+     * @return This template.
+     * @throws IllegalArgumentException If the placeholder is not in this template.
+     */
+    public synchronized SidebarTemplate bind(String placeholder, Supplier<String> source) throws IllegalArgumentException {
+        this.getPlaceholder(placeholder).source = source;
+        return this;
+    }
+
+    /**
+     * Set the value of a placeholder. The lines containing the
+     * placeholder are only rebuilt if the value has changed.
+     *
+     * @param placeholder The name of the placeholder without braces.
+     * @param value The new value of the placeholder.
+     * @return This template.
+     * @throws IllegalArgumentException If the placeholder is not in this template.
+     */
+    public synchronized SidebarTemplate set(String placeholder, Object value) throws IllegalArgumentException {
+        this.getPlaceholder(placeholder).set(value != null ? value.toString() : "");
+        return this;
+    }
+
+    /**
+     * Poll all of the bound sources and rebuild any lines that
+     * contain a placeholder whose value has changed.
+     *
+     * @return The new lines if any have changed since the last
+     *         update (always the lines on the first update) or
+     *         {@code null} if nothing has changed.
+     */
+    public synchronized String[] update() {
+
+        boolean dirty = false;
+        for (Placeholder placeholder : this.placeholders.values()) {
+
+            if (placeholder.source != null) {
+                placeholder.set(placeholder.source.get());
+            }
+
+            dirty |= placeholder.dirty;
+        }
+
+        if (!dirty) {
+
+            if (this.initial) {
+                this.initial = false;
+                return this.current;
+            }
+
+            return null;
+        }
+
+        String[] next = null;
+        for (int i = 0; i < this.lines.length; i++) {
+
+            Line line = this.lines[i];
+            if (line.isDirty()) {
+
+                String text = line.build(this.builder);
+                if (!text.equals(this.current[i])) {
+
+                    if (next == null) {
+                        // Never modify an array that has been displayed
+                        next = this.current.clone();
+                    }
+
+                    next[i] = text;
+                }
+            }
+        }
+
+        for (Placeholder placeholder : this.placeholders.values()) {
+            placeholder.dirty = false;
+        }
+
+        if (next != null) {
+            this.current = next;
+        } else if (!this.initial) {
+            return null;
+        }
+
+        this.initial = false;
+        return this.current;
+    }
+
+    /**
+     * {@link #update() Update} this template and display the lines
+     * on the given sidebar if any of them have changed.
+     *
+     * @param sidebar The sidebar to display the lines on.
+     */
+    public void refresh(@Nonnull Sidebar sidebar) {
+
+        String[] lines = this.update();
+        if (lines != null) {
+            sidebar.display(lines);
+        }
+    }
+
+    /**
+     * {@link #update() Update} this template and display the lines
+     * on the given shared sidebar if any of them have changed.
+     *
+     * @param sidebar The shared sidebar to display the lines on.
+     */
+    public void refresh(@Nonnull SharedSidebar sidebar) {
+
+        String[] lines = this.update();
+        if (lines != null) {
+            sidebar.display(lines);
+        }
+    }
+
+    private Placeholder getPlaceholder(String name) throws IllegalArgumentException {
+
+        Placeholder placeholder = this.placeholders.get(name);
+        if (placeholder == null) {
+            throw new IllegalArgumentException("Unknown placeholder " + name);
+        }
+
+        return placeholder;
+    }
+
+    private Line parse(String line) {
+
+        List<Object> segments = new ArrayList<>();
+        int start = 0, length = line.length();
+        while (start < length) {
+
+            int open = line.indexOf('{', start);
+            int close = open != -1 ? line.indexOf('}', open + 1) : -1;
+            if (close == -1) {
+                break;
+            }
+
+            String name = line.substring(open + 1, close);
+            if (name.isEmpty() || name.indexOf('{') != -1) {
+                // Not a placeholder so keep it as static text
+                int next = name.isEmpty() ? close + 1 : open + 1 + name.lastIndexOf('{');
+                addStatic(segments, line.substring(start, next));
+                start = next;
+                continue;
+            }
+
+            addStatic(segments, line.substring(start, open));
+            segments.add(this.placeholders.computeIfAbsent(name, Placeholder::new));
+            start = close + 1;
+        }
+
+        addStatic(segments, line.substring(start));
+        return new Line(segments.toArray());
+    }
+
+    private static void addStatic(List<Object> segments, String text) {
+
+        if (text.isEmpty()) {
+            return;
+        }
+
+        // Join adjacent static text so that it is a single segment
+        int last = segments.size() - 1;
+        String translated = ChatColor.translateAlternateColorCodes('&', text);
+        if (last >= 0 && segments.get(last) instanceof String) {
+            segments.set(last, segments.get(last) + translated);
+        } else {
+            segments.add(translated);
+        }
+    }
+
+    /**
+     * A compiled line made of static text that is already
+     * built and placeholders.
+     */
+    private static final class Line {
+
+        private final Object[] segments;
+
+        Line(Object[] segments) {
+            this.segments = segments;
+        }
+
+        boolean isDirty() {
+
+            for (Object segment : this.segments) {
+
+                if (segment instanceof Placeholder && ((Placeholder) segment).dirty) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        String build(StringBuilder builder) {
+
+            if (this.segments.length == 0) {
+                return "";
+            }
+
+            if (this.segments.length == 1 && this.segments[0] instanceof String) {
+                return (String) this.segments[0]; // Entirely static
+            }
+
+            builder.setLength(0);
+            for (Object segment : this.segments) {
+                builder.append(segment instanceof Placeholder ? ((Placeholder) segment).value : (String) segment);
+            }
+
+            return builder.toString();
+        }
+    }
+
+    private static final class Placeholder {
+
+        private String value = "";
+        private boolean dirty;
+        private Supplier<String> source;
+        private final String name;
+
+        Placeholder(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return '{' + this.name + '}';
+        }
+
+        void set(String value) {
+
+            if (value == null) {
+                value = "";
+            }
+
+            if (!value.equals(this.value)) {
+                this.value = value;
+                this.dirty = true;
+            }
+        }
+    }
+}
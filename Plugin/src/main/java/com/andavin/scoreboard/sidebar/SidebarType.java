@@ -3,6 +3,8 @@ package com.andavin.scoreboard.sidebar;
 import com.andavin.scoreboard.util.Limiter;
 import org.bukkit.entity.Player;
 
+import java.util.List;
+
 /**
  * Created on March 16, 2018
  *
@@ -29,6 +31,21 @@ public enum SidebarType {
         Sidebar newInstance(Player player, String displayName, Limiter limiter) {
             return new ScoreSidebar(player, displayName, limiter);
         }
+
+        @Override
+        String[] normalize(String[] lines) {
+            return ScoreSidebar.normalize(lines);
+        }
+
+        @Override
+        List<Object> diff(String objName, boolean shared, String[] oldLines, String[] lines) {
+            return ScoreSidebar.diff(objName, shared, oldLines, lines);
+        }
+
+        @Override
+        List<Object> clear(boolean shared, String[] lines) {
+            return ScoreSidebar.clear(shared, lines);
+        }
     },
 
     /**
@@ -55,6 +72,57 @@ public enum SidebarType {
         Sidebar newInstance(Player player, String displayName, Limiter limiter) {
             return new TeamSidebar(player, displayName, limiter);
         }
+
+        @Override
+        String[] normalize(String[] lines) {
+            return TeamSidebar.normalize(lines);
+        }
+
+        @Override
+        List<Object> diff(String objName, boolean shared, String[] oldLines, String[] lines) {
+            return TeamSidebar.diff(objName, shared, oldLines, lines);
+        }
+
+        @Override
+        List<Object> clear(boolean shared, String[] lines) {
+            return TeamSidebar.clear(shared, lines);
+        }
+    },
+
+    /**
+     * A {@link Sidebar} type where every row has a fixed,
+     * invisible entry that belongs to a team for that row
+     * and the text is displayed by the prefix and suffix
+     * of the team.
+     * <p>
+     * Changing the text of a row only takes a single team
+     * update packet and no score packets at all, which makes
+     * this the recommended type for sidebars that update very
+     * often (e.g. timers).
+     * <p>
+     * Downside of this type is that it has a limit of 32
+     * characters per line.
+     */
+    FIXED {
+        @Override
+        Sidebar newInstance(Player player, String displayName, Limiter limiter) {
+            return new FixedTeamSidebar(player, displayName, limiter);
+        }
+
+        @Override
+        String[] normalize(String[] lines) {
+            return FixedTeamSidebar.normalize(lines);
+        }
+
+        @Override
+        List<Object> diff(String objName, boolean shared, String[] oldLines, String[] lines) {
+            return FixedTeamSidebar.diff(objName, shared, oldLines, lines);
+        }
+
+        @Override
+        List<Object> clear(boolean shared, String[] lines) {
+            return FixedTeamSidebar.clear(shared, lines);
+        }
     };
 
     /**
@@ -66,4 +134,39 @@ public enum SidebarType {
      * @return The new {@link Sidebar instance}.
      */
     abstract Sidebar newInstance(Player player, String displayName, Limiter limiter);
+
+    /**
+     * Create a copy of the given lines that fits within the limits
+     * of this type of {@link Sidebar} and can be used as an immutable
+     * snapshot of the displayed lines.
+     *
+     * @param lines The lines to copy.
+     * @return The new copy of the lines.
+     */
+    abstract String[] normalize(String[] lines);
+
+    /**
+     * Create the packets that will change the lines of text from the
+     * old lines to the new lines for this type of {@link Sidebar}.
+     * Neither of the arrays are modified.
+     *
+     * @param objName The name of the objective the lines are in.
+     * @param shared If the lines are shown by a {@link SharedSidebar}.
+     * @param oldLines The {@link #normalize(String[]) normalized} lines that are currently displayed.
+     * @param lines The {@link #normalize(String[]) normalized} new lines to display.
+     * @return The packets to send.
+     */
+    abstract List<Object> diff(String objName, boolean shared, String[] oldLines, String[] lines);
+
+    /**
+     * Create the packets that will remove everything that this type
+     * of {@link Sidebar} created outside of its objective (i.e. the
+     * teams of its rows) for the given lines. The objective itself
+     * still has to be deleted separately.
+     *
+     * @param shared If the lines are shown by a {@link SharedSidebar}.
+     * @param lines The {@link #normalize(String[]) normalized} lines that are currently displayed.
+     * @return The packets to send.
+     */
+    abstract List<Object> clear(boolean shared, String[] lines);
 }
@@ -1,8 +1,8 @@
 package com.andavin.scoreboard.sidebar;
 
+import com.andavin.scoreboard.protocol.LineLayout;
 import com.andavin.scoreboard.protocol.Scoreboard;
 import com.andavin.scoreboard.util.Limiter;
-import com.andavin.scoreboard.util.Logger;
 import org.bukkit.entity.Player;
 
 import javax.annotation.Nonnull;
@@ -19,72 +19,96 @@ class TeamSidebar extends Sidebar {
     private static final int MAX_LINE_LENGTH = 64;
 
     TeamSidebar(@Nonnull Player player, String displayName, Limiter limiter) {
-        super(player, displayName, limiter);
+        super(player, displayName, limiter, SidebarType.TEAM);
     }
 
-    @Override
-    public void display(String... lines) {
-
-        if (this.limiter.isLimited()) {
-            return;
-        }
-
-        if (this.destroyed) {
-            throw new IllegalArgumentException("[Team] Attempting to update a destroyed sidebar.");
-        }
+    /**
+     * Copy the given lines and cut them down to the maximum
+     * amount of characters a team line can display.
+     *
+     * @param lines The lines to copy.
+     * @return The new copy of the lines.
+     */
+    static String[] normalize(String[] lines) {
+        return truncate(lines, lines.length, MAX_LINE_LENGTH);
+    }
 
-        Player player = this.getPlayer();
-        if (player == null) {
-            Logger.warn("[Team] Sidebar update attempt after player has logged out.");
-            return;
-        }
+    /**
+     * Create the packets that will change the lines of text from the
+     * old lines to the new lines. These packets do not depend on the
+     * player and can be sent to every player that is currently
+     * displaying the old lines.
+     *
+     * @param objName The name of the objective the lines are in.
+     * @param shared If the lines are shown by a {@link SharedSidebar}.
+     * @param oldLines The lines that are currently displayed.
+     * @param lines The new lines to display.
+     * @return The packets to send.
+     */
+    static List<Object> diff(String objName, boolean shared, String[] oldLines, String[] lines) {
 
-        this.limiter.update();
         // Queue up the packets so that they all send at the same time
         // with minimal delay due to reflection or other things we can avoid
-        List<Object> packets = new ArrayList<>(lines.length * 2);
+        // The team packets are sent before any of the score packets
+        List<Object> packets = new ArrayList<>(lines.length * 5);
+        List<Object> scores = new ArrayList<>(lines.length * 2);
+        // The scores only change if the amount of lines changes
+        boolean resized = lines.length != oldLines.length;
         int i = 0;
         for (; i < lines.length; i++) {
 
             String newLine = lines[i];
-            if (newLine.length() > MAX_LINE_LENGTH) {
-                newLine = newLine.substring(0, MAX_LINE_LENGTH);
-            }
-
-            String team = "team-" + i; // This is per player we'll never have dupes this way
-            String old = i < this.oldLines.size() ? this.oldLines.get(i) : null;
+            String team = getRowName(i, shared); // This is per player we'll never have dupes this way
+            String old = i < oldLines.length ? oldLines[i] : null;
             if (old != null) {
 
                 if (!old.equals(newLine)) {
-                    this.oldLines.set(i, newLine);
-                    Scoreboard.updateTeam(player, team, old, newLine);
-                    packets.add(Scoreboard.getRemovePacket(this.objName, this.getDisplayName(old)));
+                    packets.addAll(Scoreboard.getUpdateTeamPackets(team, old, newLine));
+                    scores.add(Scoreboard.getRemovePacket(objName, LineLayout.of(old).getEntry()));
+                } else if (!resized) {
+                    continue; // Nothing about this line changed
                 }
             } else {
                 // If there was no old line for the index
                 // that means that lines were added
-                this.oldLines.add(newLine);
-                Scoreboard.createTeam(player, team, newLine);
+                packets.add(Scoreboard.getCreateTeamPacket(team, newLine));
             }
 
-            // We're always adding/updating a line...
-            packets.add(Scoreboard.getAddPacket(this.objName, this.getDisplayName(newLine), lines.length - i));
+            // Add the new line or update its score
+            scores.add(Scoreboard.getAddPacket(objName, LineLayout.of(newLine).getEntry(), lines.length - i));
         }
 
         // If say they removed some lines from last time
         // we need to account for those and remove them
         int currentLines = i;
-        for (i = this.oldLines.size() - 1; currentLines <= i; i--) {
-            Scoreboard.removeTeam(player, "team-" + i); // Make sure to remove the team (for BungeeCord's sake)
-            packets.add(0, Scoreboard.getRemovePacket(this.objName, this.getDisplayName(this.oldLines.remove(i))));
+        for (i = oldLines.length - 1; currentLines <= i; i--) {
+            packets.add(Scoreboard.getRemoveTeamPacket(getRowName(i, shared))); // Make sure to remove the team (for BungeeCord's sake)
+            scores.add(0, Scoreboard.getRemovePacket(objName, LineLayout.of(oldLines[i]).getEntry()));
+        }
+
+        packets.addAll(scores);
+        return packets;
+    }
+
+    /**
+     * Create the packets that will remove the team of every
+     * row of the given lines.
+     *
+     * @param shared If the lines are shown by a {@link SharedSidebar}.
+     * @param lines The lines that are currently displayed.
+     * @return The packets to send.
+     */
+    static List<Object> clear(boolean shared, String[] lines) {
+
+        List<Object> packets = new ArrayList<>(lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            packets.add(Scoreboard.getRemoveTeamPacket(getRowName(i, shared)));
         }
 
-        Scoreboard.sendPacket(player, packets);
-        this.updateStatistics(player);
+        return packets;
     }
 
-    private String getDisplayName(String line) {
-        return line.length() <= 32 ? line : line.length() <= 48 ?
-                line.substring(16) : line.substring(16, 48);
+    private static String getRowName(int row, boolean shared) {
+        return shared ? Scoreboard.getSharedRowName(row) : Scoreboard.getRowName(row);
     }
 }
@@ -0,0 +1,40 @@
+package com.andavin.scoreboard;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A module that counts how often it is flushed and can be
+ * told to ask to be flushed again.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+class CountingModule extends ScoreboardModule {
+
+    final List<UUID> loggedOut = new ArrayList<>();
+    int flushes;
+    boolean retry;
+
+    CountingModule(Player player) {
+        super(player);
+    }
+
+    CountingModule() {
+        super();
+    }
+
+    @Override
+    protected boolean flush() {
+        this.flushes++;
+        return !this.retry;
+    }
+
+    @Override
+    protected void onLogout(UUID uuid) {
+        this.loggedOut.add(uuid);
+    }
+}
@@ -0,0 +1,55 @@
+package com.andavin.scoreboard;
+
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Proxy;
+import java.util.UUID;
+
+/**
+ * Creates players that only know their UUID, which is all
+ * that modules need from them until they send something.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class MockPlayer {
+
+    /**
+     * Create a new player with a random UUID.
+     *
+     * @return The new player.
+     */
+    public static Player create() {
+        return create(UUID.randomUUID());
+    }
+
+    /**
+     * Create a new player with the given UUID.
+     *
+     * @param uuid The UUID of the player.
+     * @return The new player.
+     */
+    public static Player create(UUID uuid) {
+        return (Player) Proxy.newProxyInstance(MockPlayer.class.getClassLoader(), new Class<?>[] { Player.class },
+                (proxy, method, args) -> {
+
+                    switch (method.getName()) {
+                        case "getUniqueId":
+                            return uuid;
+                        case "isOnline":
+                            return true;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "MockPlayer{" + uuid + '}';
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private MockPlayer() {
+    }
+}
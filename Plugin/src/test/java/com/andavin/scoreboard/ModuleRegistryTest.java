@@ -0,0 +1,53 @@
+package com.andavin.scoreboard;
+
+import org.bukkit.entity.Player;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class ModuleRegistryTest {
+
+    private final ModuleRegistry<CountingModule> registry = new ModuleRegistry<>();
+
+    @Test
+    public void findsByPlayerAndUUID() {
+
+        Player player = MockPlayer.create();
+        CountingModule module = new CountingModule(player);
+        assertNull(this.registry.register(module));
+        assertSame(module, this.registry.get(player));
+        assertSame(module, this.registry.get(player.getUniqueId()));
+        assertNull(this.registry.get(MockPlayer.create()));
+    }
+
+    @Test
+    public void replacesThePreviousModule() {
+
+        Player player = MockPlayer.create();
+        CountingModule first = new CountingModule(player), second = new CountingModule(player);
+        this.registry.register(first);
+        assertSame(first, this.registry.register(second));
+        assertSame(second, this.registry.get(player));
+        assertEquals(1, this.registry.values().size());
+    }
+
+    @Test
+    public void unregistersOnlyTheSameModule() {
+
+        Player player = MockPlayer.create();
+        CountingModule first = new CountingModule(player), second = new CountingModule(player);
+        this.registry.register(first);
+        this.registry.register(second);
+        // A replaced module being destroyed must not remove its replacement
+        this.registry.unregister(first);
+        assertSame(second, this.registry.get(player));
+        this.registry.unregister(second);
+        assertNull(this.registry.get(player));
+    }
+}
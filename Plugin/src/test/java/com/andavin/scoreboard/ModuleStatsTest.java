@@ -0,0 +1,51 @@
+package com.andavin.scoreboard;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class ModuleStatsTest {
+
+    @Test
+    public void countsPerModuleAndInTotal() {
+
+        long updates = ModuleStats.getTotalUpdates(), throttled = ModuleStats.getTotalThrottled();
+        ModuleStats stats = new ModuleStats();
+        stats.recordUpdate();
+        stats.recordUpdate();
+        stats.recordThrottled();
+        assertEquals(2, stats.getUpdates());
+        assertEquals(1, stats.getThrottled());
+        assertEquals(updates + 2, ModuleStats.getTotalUpdates());
+        assertEquals(throttled + 1, ModuleStats.getTotalThrottled());
+    }
+
+    @Test
+    public void durationsAreBucketedByPowersOfTwo() {
+
+        // Nothing else records durations, so these are the only ones
+        for (int i = 0; i < 900; i++) {
+            ModuleStats.recordDuration(TimeUnit.MICROSECONDS.toNanos(3));
+        }
+
+        for (int i = 0; i < 99; i++) {
+            ModuleStats.recordDuration(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+
+        ModuleStats.recordDuration(TimeUnit.SECONDS.toNanos(10));
+        // Every percentile is the upper bound in microseconds of its bucket
+        assertEquals(4, ModuleStats.getDurationPercentile(0.5));
+        assertEquals(4, ModuleStats.getDurationPercentile(0.9));
+        assertEquals(128, ModuleStats.getDurationPercentile(0.99));
+        // Anything past the last bucket has no upper bound
+        assertEquals(Long.MAX_VALUE, ModuleStats.getDurationPercentile(1));
+        assertTrue(ModuleStats.getDurationPercentile(0.999) >= 128);
+    }
+}
@@ -0,0 +1,57 @@
+package com.andavin.scoreboard;
+
+import org.bukkit.entity.Player;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class ScoreboardModuleTest {
+
+    @Test
+    public void logoutDestroysTheModulesOfThePlayer() {
+
+        Player player = MockPlayer.create(), other = MockPlayer.create();
+        CountingModule module = new CountingModule(player), kept = new CountingModule(other);
+        ScoreboardModule.destroyAll(player.getUniqueId());
+        assertTrue(module.isDestroyed());
+        assertNull(module.getPlayer());
+        assertNull(ScoreboardModule.getModules().get(player.getUniqueId()));
+        assertFalse(kept.isDestroyed());
+        kept.destroy();
+    }
+
+    @Test
+    public void destroyForgetsTheModule() {
+
+        Player player = MockPlayer.create();
+        CountingModule module = new CountingModule(player);
+        module.destroy();
+        Set<ScoreboardModule> modules = ScoreboardModule.getModules().get(player.getUniqueId());
+        assertFalse(modules != null && modules.contains(module));
+    }
+
+    @Test
+    public void sharedModulesAreToldAboutLogouts() {
+
+        Player player = MockPlayer.create();
+        CountingModule shared = new CountingModule();
+        ScoreboardModule.destroyAll(player.getUniqueId());
+        assertEquals(Collections.singletonList(player.getUniqueId()), shared.loggedOut);
+        assertFalse(shared.isDestroyed());
+
+        // Once destroyed it is no longer told
+        shared.destroy();
+        ScoreboardModule.destroyAll(MockPlayer.create().getUniqueId());
+        assertEquals(1, shared.loggedOut.size());
+    }
+}
@@ -0,0 +1,68 @@
+package com.andavin.scoreboard;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class UpdateQueueTest {
+
+    @After
+    public void drain() {
+        UpdateQueue.flush(); // Never leave anything for the next test
+    }
+
+    @Test
+    public void coalescesUpdatesWithinATick() {
+
+        CountingModule module = new CountingModule(MockPlayer.create());
+        module.queueFlush();
+        module.queueFlush();
+        module.queueFlush();
+        UpdateQueue.flush();
+        assertEquals(1, module.flushes);
+    }
+
+    @Test
+    public void flushesOnlyWhenQueued() {
+
+        CountingModule module = new CountingModule(MockPlayer.create());
+        UpdateQueue.flush();
+        assertEquals(0, module.flushes);
+        module.queueFlush();
+        UpdateQueue.flush();
+        UpdateQueue.flush();
+        assertEquals(1, module.flushes);
+    }
+
+    @Test
+    public void retriesOnTheNextTick() {
+
+        CountingModule module = new CountingModule(MockPlayer.create());
+        module.retry = true;
+        module.queueFlush();
+        UpdateQueue.flush();
+        assertEquals(1, module.flushes);
+        UpdateQueue.flush();
+        assertEquals(2, module.flushes);
+        module.retry = false;
+        UpdateQueue.flush();
+        UpdateQueue.flush();
+        assertEquals(3, module.flushes);
+    }
+
+    @Test
+    public void canBeQueuedAgainAfterAFlush() {
+
+        CountingModule module = new CountingModule(MockPlayer.create());
+        module.queueFlush();
+        UpdateQueue.flush();
+        module.queueFlush();
+        UpdateQueue.flush();
+        assertEquals(2, module.flushes);
+    }
+}
@@ -0,0 +1,43 @@
+package com.andavin.scoreboard.sidebar;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class SidebarNormalizeTest {
+
+    private static final String LONG = "0123456789012345678901234567890123456789012345678901234567890123456789";
+
+    @Test
+    public void truncateCopiesAndCuts() {
+
+        String[] lines = { "short", LONG };
+        String[] copy = Sidebar.truncate(lines, 2, 10);
+        assertNotSame(lines, copy);
+        assertArrayEquals(new String[] { "short", LONG.substring(0, 10) }, copy);
+        assertSame(lines[0], copy[0]); // Lines that fit are not copied
+    }
+
+    @Test
+    public void truncateCanDropLines() {
+        assertArrayEquals(new String[] { "a" }, Sidebar.truncate(new String[] { "a", "b" }, 1, 10));
+    }
+
+    @Test
+    public void scoreLinesAreCutAt40() {
+        assertEquals(40, ScoreSidebar.normalize(new String[] { LONG })[0].length());
+    }
+
+    @Test
+    public void teamLinesAreCutAt64() {
+        assertEquals(64, TeamSidebar.normalize(new String[] { LONG })[0].length());
+        assertEquals("line", TeamSidebar.normalize(new String[] { "line" })[0]);
+    }
+}
@@ -0,0 +1,164 @@
+package com.andavin.scoreboard.protocol;
+
+import org.bukkit.entity.Player;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A cache of the network channel of each player and the methods
+ * to write packets straight to those channels according to the
+ * current {@link DispatchMode}. This is used for batches of packets,
+ * so that they are flushed once, for raw packets, which the server
+ * cannot handle anyway, and for every packet when {@link DispatchMode#ASYNC}
+ * is enabled.
+ * <p>
+ * The channel type differs between versions of Minecraft (Netty is
+ * relocated in 1.7), so every version only implements the few channel
+ * operations that are needed here.
+ *
+ * @param <C> The type of channel.
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public abstract class ChannelDispatcher<C> {
+
+    private final Map<UUID, C> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Get the channel of the given player. The channel is
+     * resolved once and then cached until it is closed.
+     *
+     * @param player The player to get the channel for.
+     * @return The open channel or {@code null} if the player's connection is not ready.
+     */
+    public final C get(Player player) {
+
+        UUID uuid = player.getUniqueId();
+        C channel = this.channels.get(uuid);
+        if (channel != null && this.isOpen(channel)) {
+            return channel;
+        }
+
+        C resolved = this.resolve(player);
+        if (resolved == null || !this.isOpen(resolved)) {
+            return null;
+        }
+
+        if (resolved != channel) {
+            this.channels.put(uuid, resolved);
+            this.onClose(resolved, () -> this.channels.remove(uuid, resolved));
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Write and flush a single packet to the given channel. In
+     * {@link DispatchMode#ASYNC} this is enqueued as a task on the
+     * channel's event loop instead of being written from the calling
+     * thread.
+     *
+     * @param channel The channel to write to.
+     * @param packet The packet to write.
+     */
+    public final void send(C channel, Object packet) {
+
+        if (Scoreboard.getDispatchMode() == DispatchMode.ASYNC && !this.inEventLoop(channel)) {
+            this.execute(channel, () -> {
+                this.write(channel, packet);
+                this.flush(channel);
+            });
+        } else {
+            this.write(channel, packet);
+            this.flush(channel);
+        }
+    }
+
+    /**
+     * Write all of the given packets to the given channel and
+     * flush it once at the end. In {@link DispatchMode#ASYNC}
+     * this is enqueued as a single task on the channel's event
+     * loop instead of being written from the calling thread.
+     *
+     * @param channel The channel to write to.
+     * @param packets The packets to write.
+     */
+    public final void send(C channel, List<?> packets) {
+
+        if (Scoreboard.getDispatchMode() == DispatchMode.ASYNC && !this.inEventLoop(channel)) {
+            this.execute(channel, () -> this.writeAll(channel, packets));
+        } else {
+            this.writeAll(channel, packets);
+        }
+    }
+
+    private void writeAll(C channel, List<?> packets) {
+
+        // Write all of the packets without flushing them
+        // and then flush them all at once at the end
+        for (int i = 0, size = packets.size(); i < size; i++) {
+            this.write(channel, packets.get(i));
+        }
+
+        this.flush(channel);
+    }
+
+    /**
+     * Find the channel of the given player's connection.
+     *
+     * @param player The player to find the channel for.
+     * @return The channel or {@code null} if the connection is not ready.
+     */
+    protected abstract C resolve(Player player);
+
+    /**
+     * Tell if the given channel is still open.
+     *
+     * @param channel The channel to test.
+     * @return If the channel is open.
+     */
+    protected abstract boolean isOpen(C channel);
+
+    /**
+     * Run the given task once the given channel is closed.
+     *
+     * @param channel The channel to listen to.
+     * @param task The task to run.
+     */
+    protected abstract void onClose(C channel, Runnable task);
+
+    /**
+     * Tell if the current thread is the event loop of the
+     * given channel.
+     *
+     * @param channel The channel to test.
+     * @return If the current thread is the channel's event loop.
+     */
+    protected abstract boolean inEventLoop(C channel);
+
+    /**
+     * Run the given task on the event loop of the given channel.
+     *
+     * @param channel The channel to run the task for.
+     * @param task The task to run.
+     */
+    protected abstract void execute(C channel, Runnable task);
+
+    /**
+     * Write the given packet to the channel without flushing it.
+     *
+     * @param channel The channel to write to.
+     * @param packet The packet to write.
+     */
+    protected abstract void write(C channel, Object packet);
+
+    /**
+     * Flush everything that was written to the given channel.
+     *
+     * @param channel The channel to flush.
+     */
+    protected abstract void flush(C channel);
+}
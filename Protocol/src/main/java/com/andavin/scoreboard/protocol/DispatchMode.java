@@ -0,0 +1,35 @@
+package com.andavin.scoreboard.protocol;
+
+/**
+ * The way that packets are handed to the player's connection
+ * once they have been created.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ * @see Scoreboard#setDispatchMode(DispatchMode)
+ */
+public enum DispatchMode {
+
+    /**
+     * Write the packets to the player's channel from the
+     * thread that is sending them. A batch of packets is
+     * written in full and flushed once at the end. Single
+     * NMS packets are handed to the player's connection like
+     * any other packet that the server sends.
+     */
+    SYNC,
+
+    /**
+     * Enqueue all of the packets for one update as a single
+     * task on the player's channel event loop. The sending
+     * thread never writes to the channel itself, so it only
+     * pays the cost of handing off one task.
+     * <p>
+     * This skips the server's own packet handling for
+     * the player's connection entirely.
+     * <p>
+     * Packets sent in this mode must never be modified
+     * after they are sent.
+     */
+    ASYNC
+}
@@ -0,0 +1,147 @@
+package com.andavin.scoreboard.protocol;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The parts that a line of text is split into when it is displayed
+ * by a team. The first 16 characters are the prefix, the next 32 are
+ * the entry (the name that is shown between the prefix and suffix)
+ * and any remaining characters are the suffix. If the line is 32
+ * characters or less, then the entry covers the whole line.
+ * <p>
+ * Layouts are cached by their line, so a line that is displayed over
+ * and over again is only ever split once. Once the cache is full, a
+ * clock sweeps over the cached lines and evicts the first one that
+ * has not been used since the clock last passed it, so lines that
+ * are displayed all the time stay cached while lines that change
+ * constantly (e.g. timers) are evicted. Looking up a layout never
+ * waits on another thread.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class LineLayout {
+
+    private static final int CACHE_SIZE = 1024; // Must be a power of two
+    private static final Map<String, LineLayout> CACHE = new ConcurrentHashMap<>(CACHE_SIZE * 2);
+    // The lines in the cache in the order that the clock passes them
+    private static final AtomicReferenceArray<String> CLOCK = new AtomicReferenceArray<>(CACHE_SIZE);
+    private static final AtomicInteger HAND = new AtomicInteger();
+
+    /**
+     * Get the layout of the given line. If the line has been
+     * split recently, then the same layout is usually returned.
+     *
+     * @param line The line to get the layout of.
+     * @return The layout of the line.
+     */
+    public static LineLayout of(String line) {
+
+        LineLayout layout = CACHE.get(line);
+        if (layout != null) {
+
+            // Only write when it changes so hits do not contend
+            if (!layout.used) {
+                layout.used = true;
+            }
+
+            return layout;
+        }
+
+        layout = new LineLayout(line);
+        LineLayout existing = CACHE.putIfAbsent(line, layout);
+        if (existing != null) {
+            return existing; // Another thread split the same line first
+        }
+
+        evictFor(line);
+        return layout;
+    }
+
+    /**
+     * Find a place on the clock for a line that was just added to
+     * the cache, evicting the first line that has not been used since
+     * the hand last passed it. Every used line that is passed is given
+     * a second chance, so this stops after two turns of the clock at most
+     * unless other threads keep using the lines.
+     *
+     * @param line The line that was added.
+     */
+    private static void evictFor(String line) {
+
+        while (true) {
+
+            int slot = HAND.getAndIncrement() & CACHE_SIZE - 1;
+            String current = CLOCK.get(slot);
+            if (current == null) {
+
+                if (CLOCK.compareAndSet(slot, null, line)) {
+                    return;
+                }
+
+                continue;
+            }
+
+            LineLayout layout = CACHE.get(current);
+            if (layout != null && layout.used) {
+                layout.used = false;
+                continue;
+            }
+
+            if (CLOCK.compareAndSet(slot, current, line)) {
+
+                if (layout != null) {
+                    CACHE.remove(current, layout);
+                }
+
+                return;
+            }
+        }
+    }
+
+    private final String prefix, entry, suffix;
+    private volatile boolean used;
+
+    private LineLayout(String line) {
+
+        int length = line.length();
+        // If the line is more than 32 long then get the first 16 characters
+        // If it's not that long then the entry can cover the whole thing
+        this.prefix = length <= 32 ? "" : line.substring(0, 16);
+        // If the line is more than 32 long, but less than 48, then get from 16 on
+        // If it is more than 48 then get from 16 to 48
+        this.entry = length <= 32 ? line : length <= 48 ? line.substring(16) : line.substring(16, 48);
+        // If the line is more than 48 then get whatever characters are after that
+        this.suffix = length <= 48 ? "" : line.substring(48);
+    }
+
+    /**
+     * Get the prefix of the team that displays the line.
+     *
+     * @return The prefix (empty if there is none).
+     */
+    public String getPrefix() {
+        return this.prefix;
+    }
+
+    /**
+     * Get the entry (team member name) that displays the line.
+     *
+     * @return The entry.
+     */
+    public String getEntry() {
+        return this.entry;
+    }
+
+    /**
+     * Get the suffix of the team that displays the line.
+     *
+     * @return The suffix (empty if there is none).
+     */
+    public String getSuffix() {
+        return this.suffix;
+    }
+}
@@ -0,0 +1,33 @@
+package com.andavin.scoreboard.protocol;
+
+/**
+ * The way that scoreboard packets are built and handed
+ * to the client connection.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ * @see Scoreboard#setPacketMode(PacketMode)
+ */
+public enum PacketMode {
+
+    /**
+     * Build the server's own packet objects and let the
+     * connection encode them on the Netty thread.
+     * <p>
+     * This is the default mode and is compatible with any
+     * plugin that listens to or translates packets (such
+     * as ProtocolLib or ViaVersion).
+     */
+    NMS,
+
+    /**
+     * Write the wire format of each packet directly into a
+     * pooled buffer and hand the buffer to the connection.
+     * <p>
+     * This skips creating the packet objects and encoding them
+     * a second time on the Netty thread, however, packets sent
+     * this way are invisible to packet listeners and will not be
+     * translated for clients on a different protocol version.
+     */
+    RAW
+}
@@ -7,10 +7,12 @@ import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.DisplaySlot;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Created on March 16, 2018
@@ -19,24 +21,36 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public abstract class Scoreboard {
 
-    private static final Scoreboard INSTANCE;
+    private static volatile Scoreboard nms;
+    private static final String PACKAGE = "com.andavin.scoreboard.protocol." + Reflection.VERSION_STRING + '.';
     private static final int CREATE = 0, DELETE = 1, UPDATE = 2;
     private static final AtomicInteger OBJ_ID = new AtomicInteger();
+    private static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final String[] ROWS = new String[32], SHARED_ROWS = new String[32];
     private static final Map<DisplaySlot, Integer> SLOTS = new EnumMap<>(DisplaySlot.class);
+    private static volatile Scoreboard instance;
+    private static volatile PacketMode packetMode = PacketMode.NMS;
+    private static volatile DispatchMode dispatchMode = DispatchMode.SYNC;
+    private static final LongAdder MAIN_THREAD_NANOS = new LongAdder();
+    private static final int ESTIMATED_PACKET_SIZE = 32; // Average size of a scoreboard packet in bytes
 
     static {
 
         Logger.info("Finding the proper protocol manager for your server version {} - {}.",
                 Bukkit.getVersion(), Reflection.VERSION_STRING);
 
-        Class<? extends Scoreboard> clazz = Reflection.getClassType(
-                "com.andavin.scoreboard.protocol." + Reflection.VERSION_STRING + ".ScoreboardImpl");
+        Class<? extends Scoreboard> clazz = Reflection.getClassType(PACKAGE + "ScoreboardImpl");
         if (clazz != null) {
-            INSTANCE = Reflection.getInstance(clazz);
+            nms = instance = Reflection.getInstance(clazz);
         } else {
             throw new UnsupportedOperationException("This version of Minecraft (" + Bukkit.getVersion() + ") is not supported.");
         }
 
+        for (int i = 0; i < ROWS.length; i++) {
+            ROWS[i] = ("l." + DIGITS[i]).intern();
+            SHARED_ROWS[i] = ("s." + DIGITS[i]).intern();
+        }
+
         for (DisplaySlot slot : DisplaySlot.values()) {
 
             switch (slot) {
@@ -53,6 +67,99 @@ public abstract class Scoreboard {
         }
     }
 
+    /**
+     * Get the {@link PacketMode} that is currently being
+     * used to create and send packets.
+     *
+     * @return The current packet mode.
+     */
+    public static PacketMode getPacketMode() {
+        return packetMode;
+    }
+
+    /**
+     * Set the {@link PacketMode} that should be used to create
+     * and send packets. This should be set before any scoreboards
+     * are created, since packets created in one mode cannot be
+     * sent in another.
+     * <p>
+     * Default {@link PacketMode#NMS}
+     *
+     * @param mode The mode to use.
+     * @throws UnsupportedOperationException If the mode is not supported for this version of Minecraft.
+     */
+    public static void setPacketMode(PacketMode mode) throws UnsupportedOperationException {
+
+        if (mode == packetMode) {
+            return;
+        }
+
+        if (mode == PacketMode.RAW) {
+
+            Class<? extends Scoreboard> clazz = Reflection.getClassType(PACKAGE + "RawScoreboardImpl");
+            if (clazz == null) {
+                throw new UnsupportedOperationException("Raw packets are not supported on this version of Minecraft (" +
+                                                        Bukkit.getVersion() + ").");
+            }
+
+            instance = Reflection.getInstance(clazz);
+        } else {
+            instance = nms;
+        }
+
+        packetMode = mode;
+        Logger.info("Now sending scoreboard packets in {} mode.", mode);
+    }
+
+    /**
+     * Replace the implementation that creates and sends {@link PacketMode#NMS NMS}
+     * packets for this version of Minecraft. This is only meant for implementations
+     * that do not send to real connections (e.g. on a test server) and must be done
+     * before any packets are created.
+     *
+     * @param implementation The implementation to use instead.
+     */
+    protected static void setImplementation(Scoreboard implementation) {
+
+        nms = implementation;
+        if (packetMode == PacketMode.NMS) {
+            instance = implementation;
+        }
+    }
+
+    /**
+     * Get the {@link DispatchMode} that is currently being
+     * used to hand packets to the player connections.
+     *
+     * @return The current dispatch mode.
+     */
+    public static DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    /**
+     * Set the {@link DispatchMode} that should be used to
+     * hand packets to the player connections.
+     * <p>
+     * Default {@link DispatchMode#SYNC}
+     *
+     * @param mode The mode to use.
+     */
+    public static void setDispatchMode(DispatchMode mode) {
+        dispatchMode = mode;
+    }
+
+    /**
+     * Get the total amount of time, in nanoseconds, that has been
+     * spent handing packets to player connections on the main
+     * server thread and reset it back to zero.
+     *
+     * @return The time spent sending since the last call.
+     */
+    public static long resetMainThreadTime() {
+        return MAIN_THREAD_NANOS.sumThenReset();
+    }
+
     /**
      * Send a packet to the given player.
      *
@@ -61,12 +168,17 @@ public abstract class Scoreboard {
      * @throws ClassCastException If the packet type is not an instance of the NMS Packet class.
      */
     public static void sendPacket(Player player, Object packet) throws ClassCastException {
-        INSTANCE.send(player, packet);
+        dispatch(instance, player, packet);
     }
 
     /**
      * Send multiple packets the given player at one. This method
-     * is slightly more efficient than repeated called to {@link #send(Player, Object)}.
+     * is more efficient than repeated called to {@link #send(Player, Object)}
+     * since the packets are all written before the connection is
+     * flushed only once.
+     * <p>
+     * The list must not be modified after it is sent, since in
+     * {@link DispatchMode#ASYNC} it is written at a later time.
      *
      * @param player The player to send the packet to.
      * @param packets The list of packets to send.
@@ -74,7 +186,87 @@ public abstract class Scoreboard {
      * @throws ClassCastException If the packet type is not an instance of the NMS Packet class.
      */
     public static <Packet> void sendPacket(Player player, List<Packet> packets) throws ClassCastException {
-        INSTANCE.send(player, packets);
+        dispatch(instance, player, packets);
+    }
+
+    /**
+     * Send the same packet to every one of the given players
+     * except for the one given to exclude. The packet is only
+     * created once and shared between all of the players, so
+     * it must not be sent again afterwards.
+     *
+     * @param players The players to send the packet to.
+     * @param exclude The player to not send the packet to (may be {@code null}).
+     * @param packet The packet object to send.
+     * @throws ClassCastException If the packet type is not an instance of the NMS Packet class.
+     */
+    public static void broadcast(Collection<? extends Player> players, Player exclude, Object packet) throws ClassCastException {
+
+        Scoreboard impl = instance;
+        for (Player player : players) {
+
+            if (!player.equals(exclude)) {
+                dispatch(impl, player, impl.share(packet));
+            }
+        }
+
+        impl.release(packet);
+    }
+
+    /**
+     * Send the same packets to every one of the given players
+     * except for the one given to exclude. The packets are only
+     * created once and shared between all of the players, so
+     * they must not be sent again afterwards.
+     *
+     * @param players The players to send the packets to.
+     * @param exclude The player to not send the packets to (may be {@code null}).
+     * @param packets The list of packets to send.
+     * @param <Packet> The type of the packet (usually {@link Object}).
+     * @throws ClassCastException If the packet type is not an instance of the NMS Packet class.
+     */
+    public static <Packet> void broadcast(Collection<? extends Player> players, Player exclude,
+                                          List<Packet> packets) throws ClassCastException {
+
+        Scoreboard impl = instance;
+        for (Player player : players) {
+
+            if (!player.equals(exclude)) {
+                dispatch(impl, player, impl.share(packets));
+            }
+        }
+
+        for (int i = 0; i < packets.size(); i++) {
+            impl.release(packets.get(i));
+        }
+    }
+
+    /**
+     * Send packets to a player that are also being sent to other
+     * players. Unlike {@link #broadcast(Collection, Player, List)},
+     * each player can be sent a different selection of the packets.
+     * Once the packets have been sent to every player, each of them
+     * must be {@link #releaseShared(Object) released} exactly once.
+     *
+     * @param player The player to send the packets to.
+     * @param packets The list of packets to send.
+     * @param <Packet> The type of the packet (usually {@link Object}).
+     * @throws ClassCastException If the packet type is not an instance of the NMS Packet class.
+     */
+    public static <Packet> void sendShared(Player player, List<Packet> packets) throws ClassCastException {
+        Scoreboard impl = instance;
+        dispatch(impl, player, impl.share(packets));
+    }
+
+    /**
+     * Release a packet that was sent to players using
+     * {@link #sendShared(Player, List)} once it has been
+     * sent to every player.
+     *
+     * @param packet The packet to release.
+     */
+    public static void releaseShared(Object packet) {
+        instance.release(packet);
     }
 
     /**
@@ -87,13 +279,11 @@ public abstract class Scoreboard {
      * @param slot The ID of the slot the objective should be created for.
      */
     public static void createObjective(Player player, String displayName, String objName, DisplaySlot slot) {
-        Object create = INSTANCE.createObjectivePacket(objName, displayName, CREATE);
-        Object display = INSTANCE.createDisplaySlotPacket(objName, SLOTS.get(slot));
-        INSTANCE.send(player, Arrays.asList(create, display));
+        dispatch(instance, player, getCreateObjectivePackets(displayName, objName, slot));
     }
 
     public static void deleteObjective(Player player, String objName) {
-        INSTANCE.send(player, INSTANCE.createObjectivePacket(objName, null, DELETE));
+        dispatch(instance, player, getDeleteObjectivePacket(objName));
     }
 
     /**
@@ -104,7 +294,44 @@ public abstract class Scoreboard {
      * @param objName The objective unique ID name.
      */
     public static void setDisplayName(Player player, String displayName, String objName) {
-        INSTANCE.send(player, INSTANCE.createObjectivePacket(objName, displayName, UPDATE));
+        dispatch(instance, player, getDisplayNamePacket(displayName, objName));
+    }
+
+    /**
+     * Get new instances of the packets that will create an objective
+     * and then display it in the given slot.
+     *
+     * @param displayName The display name of the objective.
+     * @param objName The objective unique ID name.
+     * @param slot The slot the objective should be displayed in.
+     * @return The newly created objective and display slot packets.
+     */
+    public static List<Object> getCreateObjectivePackets(String displayName, String objName, DisplaySlot slot) {
+        Object create = instance.createObjectivePacket(objName, displayName, CREATE);
+        Object display = instance.createDisplaySlotPacket(objName, SLOTS.get(slot));
+        return Arrays.asList(create, display);
+    }
+
+    /**
+     * Get a new instance of a packet that will change the
+     * display name of an objective.
+     *
+     * @param displayName The new display name of the objective.
+     * @param objName The objective unique ID name.
+     * @return The newly created objective packet.
+     */
+    public static Object getDisplayNamePacket(String displayName, String objName) {
+        return instance.createObjectivePacket(objName, displayName, UPDATE);
+    }
+
+    /**
+     * Get a new instance of a packet that will delete an objective.
+     *
+     * @param objName The objective unique ID name.
+     * @return The newly created objective packet.
+     */
+    public static Object getDeleteObjectivePacket(String objName) {
+        return instance.createObjectivePacket(objName, null, DELETE);
     }
 
     /**
@@ -115,9 +342,7 @@ public abstract class Scoreboard {
      * @param line The line of text to make the displays of the team.
      */
     public static void createTeam(Player player, String name, String line) {
-        // Create a team with an action ID of 0
-        String displayName = getDisplayName(line);
-        INSTANCE.send(player, INSTANCE.createTeamPacket(name, displayName, getPrefix(line), getSuffix(line), 0, displayName));
+        dispatch(instance, player, getCreateTeamPacket(name, line));
     }
 
     /**
@@ -131,7 +356,7 @@ public abstract class Scoreboard {
      */
     public static void createTeam(Player player, String name, String prefix, String suffix, String member) {
         // Create a team with an action ID of 0
-        INSTANCE.send(player, INSTANCE.createTeamPacket(name, member, prefix, suffix, 0, member));
+        dispatch(instance, player, instance.createTeamPacket(name, member, prefix, suffix, 0, member));
     }
 
     /**
@@ -143,12 +368,7 @@ public abstract class Scoreboard {
      * @param newLine The new line of text to update the displays to.
      */
     public static void updateTeam(Player player, String name, String oldLine, String newLine) {
-        String display = getDisplayName(newLine);
-        // Remove the old "player" from the team then add the new one to it and update the team data in that order
-        Object remove = INSTANCE.createTeamPacket(name, null, null, null, 4, getDisplayName(oldLine));
-        Object add = INSTANCE.createTeamPacket(name, null, null, null, 3, display);
-        Object update = INSTANCE.createTeamPacket(name, display, getPrefix(newLine), getSuffix(newLine), 2, null);
-        INSTANCE.send(player, Arrays.asList(remove, add, update));
+        dispatch(instance, player, getUpdateTeamPackets(name, oldLine, newLine));
     }
 
     /**
@@ -159,7 +379,116 @@ public abstract class Scoreboard {
      */
     public static void removeTeam(Player player, String name) {
         // Remove a team with action ID 1. The others will not be used if the ID isn't create or update
-        INSTANCE.send(player, INSTANCE.createTeamPacket(name, null, null, null, 1, null));
+        dispatch(instance, player, instance.createTeamPacket(name, null, null, null, 1));
+    }
+
+    /**
+     * Get a new instance of a packet that will create a team
+     * that displays the given line of text.
+     *
+     * @param name The unique ID name of the team.
+     * @param line The line of text to make the displays of the team.
+     * @return The newly created team packet object.
+     */
+    public static Object getCreateTeamPacket(String name, String line) {
+        // Create a team with an action ID of 0
+        LineLayout layout = LineLayout.of(line);
+        return instance.createTeamPacket(name, layout.getEntry(), layout.getPrefix(), layout.getSuffix(), 0, layout.getEntry());
+    }
+
+    /**
+     * Get new instances of the packets that will update a
+     * team from displaying the old line of text to the new.
+     *
+     * @param name The unique ID name of the team.
+     * @param oldLine The old line of text that was displayed for the team.
+     * @param newLine The new line of text to update the displays to.
+     * @return The newly created team packet objects in the order they should be sent.
+     */
+    public static List<Object> getUpdateTeamPackets(String name, String oldLine, String newLine) {
+        LineLayout layout = LineLayout.of(newLine);
+        String display = layout.getEntry();
+        // Remove the old "player" from the team then add the new one to it and update the team data in that order
+        Object remove = instance.createTeamPacket(name, null, null, null, 4, LineLayout.of(oldLine).getEntry());
+        Object add = instance.createTeamPacket(name, null, null, null, 3, display);
+        Object update = instance.createTeamPacket(name, display, layout.getPrefix(), layout.getSuffix(), 2);
+        return Arrays.asList(remove, add, update);
+    }
+
+    /**
+     * Get a new instance of a packet that will create a
+     * team with the given prefix, suffix and member.
+     *
+     * @param name The unique ID name of the team.
+     * @param prefix The prefix for the team to display.
+     * @param suffix The suffix for the team to display.
+     * @param member The name of the player to add to the team.
+     * @return The newly created team packet object.
+     */
+    public static Object getCreateTeamPacket(String name, String prefix, String suffix, String member) {
+        return instance.createTeamPacket(name, member, prefix, suffix, 0, member);
+    }
+
+    /**
+     * Get a new instance of a packet that will create a team
+     * with the given prefix and suffix and all of the members.
+     *
+     * @param name The unique ID name of the team.
+     * @param prefix The prefix for the team to display.
+     * @param suffix The suffix for the team to display.
+     * @param members The names of the players to add to the team.
+     * @return The newly created team packet object.
+     */
+    public static Object getCreateTeamPacket(String name, String prefix, String suffix, String... members) {
+        return instance.createTeamPacket(name, name, prefix, suffix, 0, members);
+    }
+
+    /**
+     * Get a new instance of a packet that will add members
+     * to a team that already exists.
+     *
+     * @param name The unique ID name of the team.
+     * @param members The names of the players to add to the team.
+     * @return The newly created team packet object.
+     */
+    public static Object getAddMembersPacket(String name, String... members) {
+        return instance.createTeamPacket(name, null, null, null, 3, members);
+    }
+
+    /**
+     * Get a new instance of a packet that will remove members
+     * from a team without removing the team.
+     *
+     * @param name The unique ID name of the team.
+     * @param members The names of the players to remove from the team.
+     * @return The newly created team packet object.
+     */
+    public static Object getRemoveMembersPacket(String name, String... members) {
+        return instance.createTeamPacket(name, null, null, null, 4, members);
+    }
+
+    /**
+     * Get a new instance of a packet that will only change the
+     * prefix and suffix of a team that already exists and keep
+     * all of its members.
+     *
+     * @param name The unique ID name of the team.
+     * @param prefix The new prefix for the team to display.
+     * @param suffix The new suffix for the team to display.
+     * @return The newly created team packet object.
+     */
+    public static Object getUpdateTeamPacket(String name, String prefix, String suffix) {
+        return instance.createTeamPacket(name, name, prefix, suffix, 2);
+    }
+
+    /**
+     * Get a new instance of a packet that will delete a team.
+     *
+     * @param name The unique ID name of the team to delete.
+     * @return The newly created team packet object.
+     */
+    public static Object getRemoveTeamPacket(String name) {
+        return instance.createTeamPacket(name, null, null, null, 1);
     }
 
     /**
@@ -172,7 +501,7 @@ public abstract class Scoreboard {
      * @return The newly created {@code "add"} packet object.
      */
     public static Object getAddPacket(String objName, String line, int score) {
-        return INSTANCE.createAddPacket(objName, line, score);
+        return instance.createAddPacket(objName, line, score);
     }
 
     /**
@@ -184,7 +513,22 @@ public abstract class Scoreboard {
      * @return The newly created {@code "remove"} packet object.
      */
     public static Object getRemovePacket(String objName, String line) {
-        return INSTANCE.createRemovePacket(objName, line);
+        return instance.createRemovePacket(objName, line);
+    }
+
+    /**
+     * Get an estimate of how many bytes the given packet will take
+     * up once it is written. Raw packets are already written, so their
+     * size is exact, but NMS packets are given an average size.
+     * <p>
+     * This must be called before the packet is sent, since a raw
+     * packet is released once it is written to the connection.
+     *
+     * @param packet The packet to get the size of.
+     * @return The estimated size of the packet in bytes.
+     */
+    public static int estimateSize(Object packet) {
+        return instance.sizeOf(packet);
     }
 
     /**
@@ -202,6 +546,57 @@ public abstract class Scoreboard {
         return OBJ_ID.getAndIncrement();
     }
 
+    /**
+     * Get the next unique name for an objective or team. The name
+     * is the given type followed by a dot and the {@link #getNextId()
+     * next ID} in base 62, so it is never more than 8 characters long.
+     * <p>
+     * Each kind of objective or team should use its own type
+     * so that names never collide between them.
+     *
+     * @param type The character to start the name with.
+     * @return The next unique name.
+     */
+    public static String getNextName(char type) {
+
+        long id = Integer.toUnsignedLong(OBJ_ID.getAndIncrement());
+        char[] chars = new char[8];
+        int pos = chars.length;
+        do {
+            chars[--pos] = DIGITS[(int) (id % DIGITS.length)];
+            id /= DIGITS.length;
+        } while (id != 0);
+
+        chars[--pos] = '.';
+        chars[--pos] = type;
+        return new String(chars, pos, chars.length - pos);
+    }
+
+    /**
+     * Get the name of the team that displays the given row
+     * of a sidebar. The names of the first 32 rows are interned
+     * ahead of time, so getting them never creates a string.
+     *
+     * @param row The row to get the team name for.
+     * @return The name of the team for the row.
+     */
+    public static String getRowName(int row) {
+        return row >= 0 && row < ROWS.length ? ROWS[row] : "l." + row;
+    }
+
+    /**
+     * Get the name of the team that displays the given row of
+     * a sidebar that is shown to many players at once. These
+     * never collide with the {@link #getRowName(int) row names}
+     * of a player's own sidebar, so a player can have both.
+     *
+     * @param row The row to get the team name for.
+     * @return The name of the shared team for the row.
+     */
+    public static String getSharedRowName(int row) {
+        return row >= 0 && row < SHARED_ROWS.length ? SHARED_ROWS[row] : "s." + row;
+    }
+
     /**
      * Create a new objective packet that will perform the given
      * action when sent to a client.
@@ -232,11 +627,11 @@ public abstract class Scoreboard {
      * @param prefix The prefix for the team (up to 16 characters).
      * @param suffix The suffix for the team (up to 16 characters).
      * @param action The action to perform for this team (create, update, etc.).
-     * @param member The members of the team.
+     * @param members The members of the team.
      * @return The newly created team action packet object.
      */
     protected abstract Object createTeamPacket(String name, String displayName, String prefix, String suffix,
-                                               int action, String member);
+                                               int action, String... members);
 
     /**
      * Create a new packet that will add a score to a scoreboard
@@ -270,7 +665,9 @@ public abstract class Scoreboard {
 
     /**
      * Send multiple packets the given player at one. This method
-     * is slightly more efficient than repeated called to {@link #send(Player, Object)}.
+     * should write every packet and only flush the connection once
+     * at the end, so that it is more efficient than repeated calls
+     * to {@link #send(Player, Object)}.
      *
      * @param player The player to send the packet to.
      * @param packets The list of packets to send.
@@ -279,22 +676,73 @@ public abstract class Scoreboard {
      */
     protected abstract <Packet> void send(Player player, List<Packet> packets);
 
-    private static String getPrefix(String line) {
-        // If the line is more than 32 long then get the first 16 characters
-        // If it's not that long then the display name can cover the whole thing
-        return line.length() <= 32 ? "" : line.substring(0, 16);
+    private static void dispatch(Scoreboard impl, Player player, Object packet) {
+
+        if (Bukkit.isPrimaryThread()) {
+            long start = System.nanoTime();
+            impl.send(player, packet);
+            MAIN_THREAD_NANOS.add(System.nanoTime() - start);
+        } else {
+            impl.send(player, packet);
+        }
+    }
+
+    private static <Packet> void dispatch(Scoreboard impl, Player player, List<Packet> packets) {
+
+        if (Bukkit.isPrimaryThread()) {
+            long start = System.nanoTime();
+            impl.send(player, packets);
+            MAIN_THREAD_NANOS.add(System.nanoTime() - start);
+        } else {
+            impl.send(player, packets);
+        }
+    }
+
+    /**
+     * Get a copy of the given packet that can be sent to
+     * another player in addition to the original.
+     * <p>
+     * Packet objects are not modified when they are sent, so
+     * by default the same instance is simply returned.
+     *
+     * @param packet The packet to share.
+     * @return The packet that can be sent to one more player.
+     * @see #release(Object)
+     */
+    protected Object share(Object packet) {
+        return packet;
     }
 
-    private static String getDisplayName(String line) {
-        // If it's less than 32 character long then we're good to just use the whole thing
-        // If the line is more than 32 long, but less than 48, then get from 16 on
-        // If it is more than 48 then get from 16 to 48
-        return line.length() <= 32 ? line : line.length() <= 48 ?
-                line.substring(16) : line.substring(16, 48);
+    /**
+     * Get a copy of the given packets that can be sent to
+     * another player in addition to the originals.
+     *
+     * @param packets The packets to share.
+     * @param <Packet> The type of the packet (usually {@link Object}).
+     * @return The packets that can be sent to one more player.
+     * @see #share(Object)
+     */
+    protected <Packet> List<Packet> share(List<Packet> packets) {
+        return packets;
     }
 
-    private static String getSuffix(String line) {
-        // If the line is more than 48 then get whatever characters are after that
-        return line.length() <= 48 ? "" : line.substring(48);
+    /**
+     * Get the size of the given packet in bytes once it is
+     * written. By default, this is an average estimate.
+     *
+     * @param packet The packet to get the size of.
+     * @return The size of the packet in bytes.
+     */
+    protected int sizeOf(Object packet) {
+        return ESTIMATED_PACKET_SIZE;
+    }
+
+    /**
+     * Release the original packet after it has been
+     * {@link #share(Object) shared} to all of its players.
+     *
+     * @param packet The packet to release.
+     */
+    protected void release(Object packet) {
     }
 }
@@ -0,0 +1,367 @@
+package com.andavin.scoreboard.protocol;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A writer for the wire format of the scoreboard packets
+ * (objective, display slot, score and team) that can write
+ * a packet, including its ID, directly into any output.
+ * <p>
+ * This is used by the {@link PacketMode#RAW raw} protocol
+ * implementations in order to skip creating the server's
+ * packet objects altogether.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class ScoreboardEncoder {
+
+    /**
+     * The maximum amount of encoded names to keep in the cache
+     * before it is cleared and has to start over.
+     */
+    private static final int MAX_CACHED_NAMES = 4096;
+    private static final byte[] ALWAYS = encode("always"), INTEGER = encode("integer");
+
+    /**
+     * The layout that the packets should be written in.
+     */
+    public enum Format {
+
+        /**
+         * The 1.7 layout where integers are mostly written
+         * as fixed size and the team members are prefixed
+         * with a short.
+         */
+        V1_7,
+
+        /**
+         * The 1.8 layout which introduced variable length scores,
+         * name tag visibility and team colors.
+         */
+        V1_8,
+
+        /**
+         * The 1.9 through 1.12 layout which introduced the team
+         * collision rule.
+         */
+        V1_9
+    }
+
+    private final Format format;
+    private final int objectiveId, displaySlotId, scoreId, teamId;
+    private final Map<String, byte[]> names = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new encoder for a specific protocol.
+     *
+     * @param format The {@link Format} to write the packets in.
+     * @param objectiveId The ID of the objective packet.
+     * @param displaySlotId The ID of the display objective packet.
+     * @param scoreId The ID of the score packet.
+     * @param teamId The ID of the team packet.
+     */
+    public ScoreboardEncoder(Format format, int objectiveId, int displaySlotId, int scoreId, int teamId) {
+        this.format = format;
+        this.objectiveId = objectiveId;
+        this.displaySlotId = displaySlotId;
+        this.scoreId = scoreId;
+        this.teamId = teamId;
+    }
+
+    /**
+     * Write an objective packet that will perform the given
+     * action when sent to a client.
+     *
+     * @param out The output to write the packet to.
+     * @param objName The client relative unique name ID for the objective.
+     * @param displayName The display name of the objective.
+     * @param action The action to perform for this objective (create, edit, etc.).
+     */
+    public void writeObjective(DataOutput out, String objName, String displayName, int action) {
+
+        try {
+
+            writeVarInt(out, this.objectiveId);
+            this.writeName(out, objName);
+            if (this.format == Format.V1_7) {
+                writeString(out, displayName);
+                out.writeByte(action);
+            } else {
+
+                out.writeByte(action);
+                if (action == 0 || action == 2) {
+                    writeString(out, displayName);
+                    out.write(INTEGER);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a packet that will tell the client which display
+     * slot an objective is for.
+     *
+     * @param out The output to write the packet to.
+     * @param objName The client relative unique name ID for the objective.
+     * @param displaySlot The ID of the display slot to place the objective at.
+     */
+    public void writeDisplaySlot(DataOutput out, String objName, int displaySlot) {
+
+        try {
+            writeVarInt(out, this.displaySlotId);
+            out.writeByte(displaySlot);
+            this.writeName(out, objName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a packet for a team to perform an action for that
+     * team relative to the client it is sent to.
+     *
+     * @param out The output to write the packet to.
+     * @param name The client relative unique name ID for the team.
+     * @param displayName The display name of the team (up to 32 characters).
+     * @param prefix The prefix for the team (up to 16 characters).
+     * @param suffix The suffix for the team (up to 16 characters).
+     * @param action The action to perform for this team (create, update, etc.).
+     * @param members The members of the team.
+     */
+    public void writeTeam(DataOutput out, String name, String displayName, String prefix,
+                          String suffix, int action, String... members) {
+
+        try {
+
+            writeVarInt(out, this.teamId);
+            this.writeName(out, name);
+            out.writeByte(action);
+            if (action == 0 || action == 2) { // Create or update
+
+                writeString(out, displayName);
+                writeString(out, prefix);
+                writeString(out, suffix);
+                out.writeByte(0); // Friendly fire flags
+                if (this.format != Format.V1_7) {
+
+                    out.write(ALWAYS); // Name tag visibility
+                    if (this.format == Format.V1_9) {
+                        out.write(ALWAYS); // Collision rule
+                    }
+
+                    out.writeByte(-1); // No color
+                }
+            }
+
+            if (action == 0 || action == 3 || action == 4) {
+
+                if (this.format == Format.V1_7) {
+                    out.writeShort(members.length);
+                } else {
+                    writeVarInt(out, members.length);
+                }
+
+                for (String member : members) {
+                    writeString(out, member);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a packet that will add a score to a scoreboard
+     * objective or change the score if it already exists.
+     *
+     * @param out The output to write the packet to.
+     * @param objName The client relative unique name ID for the objective.
+     * @param line The line of text to display for the score.
+     * @param score The score or, for our purposes, index of the score.
+     */
+    public void writeScore(DataOutput out, String objName, String line, int score) {
+
+        try {
+
+            writeVarInt(out, this.scoreId);
+            writeString(out, line);
+            out.writeByte(0);
+            this.writeName(out, objName);
+            if (this.format == Format.V1_7) {
+                out.writeInt(score);
+            } else {
+                writeVarInt(out, score);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a packet that will remove a score from a
+     * scoreboard objective.
+     * <p>
+     * Note that 1.7 does not send the objective name in this
+     * packet and the score will be removed from every objective.
+     *
+     * @param out The output to write the packet to.
+     * @param objName The client relative unique name ID for the objective.
+     * @param line The line of text that is being displayed for the score.
+     */
+    public void writeRemoveScore(DataOutput out, String objName, String line) {
+
+        try {
+
+            writeVarInt(out, this.scoreId);
+            writeString(out, line);
+            out.writeByte(1);
+            if (this.format != Format.V1_7) {
+                this.writeName(out, objName);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write an objective or team name. Since these names are
+     * constant for the lifetime of a sidebar or team, their
+     * encoded bytes are cached and reused for every packet.
+     *
+     * @param out The output to write the name to.
+     * @param name The name to write.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private void writeName(DataOutput out, String name) throws IOException {
+
+        byte[] encoded = this.names.get(name);
+        if (encoded == null) {
+
+            if (this.names.size() >= MAX_CACHED_NAMES) {
+                this.names.clear();
+            }
+
+            encoded = encode(name);
+            this.names.put(name, encoded);
+        }
+
+        out.write(encoded);
+    }
+
+    /**
+     * Write a string as its UTF-8 length followed by the
+     * UTF-8 bytes without creating any intermediate arrays.
+     * A {@code null} string will be written as empty.
+     *
+     * @param out The output to write the string to.
+     * @param str The string to write.
+     * @throws IOException If something goes wrong while writing.
+     */
+    private static void writeString(DataOutput out, String str) throws IOException {
+
+        if (str == null) {
+            out.writeByte(0);
+            return;
+        }
+
+        int length = str.length();
+        writeVarInt(out, utf8Length(str));
+        for (int i = 0; i < length; i++) {
+
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                out.writeByte(c);
+            } else if (c < 0x800) {
+                out.writeByte(0xC0 | c >> 6);
+                out.writeByte(0x80 | c & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+
+                int codePoint = Character.codePointAt(str, i);
+                if (codePoint == c) { // Unpaired surrogates are replaced just like String#getBytes
+                    out.writeByte('?');
+                    continue;
+                }
+
+                i++;
+                out.writeByte(0xF0 | codePoint >> 18);
+                out.writeByte(0x80 | codePoint >> 12 & 0x3F);
+                out.writeByte(0x80 | codePoint >> 6 & 0x3F);
+                out.writeByte(0x80 | codePoint & 0x3F);
+            } else {
+                out.writeByte(0xE0 | c >> 12);
+                out.writeByte(0x80 | c >> 6 & 0x3F);
+                out.writeByte(0x80 | c & 0x3F);
+            }
+        }
+    }
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+
+        while ((value & ~0x7F) != 0) {
+            out.writeByte(value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+
+        out.writeByte(value);
+    }
+
+    private static int utf8Length(String str) {
+
+        int length = str.length(), bytes = 0;
+        for (int i = 0; i < length; i++) {
+
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isSurrogate(c)) {
+
+                if (Character.codePointAt(str, i) == c) {
+                    bytes++;
+                } else {
+                    bytes += 4;
+                    i++;
+                }
+            } else {
+                bytes += 3;
+            }
+        }
+
+        return bytes;
+    }
+
+    private static byte[] encode(String str) {
+
+        int length = utf8Length(str), index = 0, value = length;
+        byte[] encoded = new byte[varIntLength(length) + length];
+        while ((value & ~0x7F) != 0) {
+            encoded[index++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+
+        encoded[index++] = (byte) value;
+        byte[] utf8 = str.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(utf8, 0, encoded, index, utf8.length);
+        return encoded;
+    }
+
+    private static int varIntLength(int value) {
+
+        int length = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            length++;
+        }
+
+        return length;
+    }
+}
@@ -0,0 +1,72 @@
+package com.andavin.scoreboard.protocol;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class LineLayoutTest {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    @Test
+    public void shortLineIsOnlyTheEntry() {
+
+        String line = ALPHABET.substring(0, 32);
+        LineLayout layout = LineLayout.of(line);
+        assertEquals("", layout.getPrefix());
+        assertEquals(line, layout.getEntry());
+        assertEquals("", layout.getSuffix());
+    }
+
+    @Test
+    public void mediumLineHasPrefixAndEntry() {
+
+        LineLayout layout = LineLayout.of(ALPHABET.substring(0, 40));
+        assertEquals(ALPHABET.substring(0, 16), layout.getPrefix());
+        assertEquals(ALPHABET.substring(16, 40), layout.getEntry());
+        assertEquals("", layout.getSuffix());
+    }
+
+    @Test
+    public void longLineHasEveryPart() {
+
+        LineLayout layout = LineLayout.of(ALPHABET);
+        assertEquals(ALPHABET.substring(0, 16), layout.getPrefix());
+        assertEquals(ALPHABET.substring(16, 48), layout.getEntry());
+        assertEquals(ALPHABET.substring(48), layout.getSuffix());
+    }
+
+    @Test
+    public void sameLineIsOnlySplitOnce() {
+        String line = "Coins: " + 1234;
+        assertSame(LineLayout.of(line), LineLayout.of(new String(line.toCharArray())));
+    }
+
+    @Test
+    public void linesInUseSurviveEviction() {
+
+        String hot = "Online: " + 42;
+        LineLayout layout = LineLayout.of(hot);
+        // Enough new lines to go around the clock many times
+        for (int i = 0; i < 5000; i++) {
+            LineLayout.of("Time: " + i);
+            assertSame(layout, LineLayout.of(hot));
+        }
+    }
+
+    @Test
+    public void manyLinesStillSplitCorrectly() {
+
+        // Enough lines to evict every line at least once
+        for (int i = 0; i < 5000; i++) {
+            LineLayout layout = LineLayout.of(ALPHABET.substring(0, 48) + i);
+            assertEquals(ALPHABET.substring(16, 48), layout.getEntry());
+            assertEquals(String.valueOf(i), layout.getSuffix());
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.andavin.scoreboard.testkit;
+
+import com.andavin.scoreboard.PluginHooks;
+import com.andavin.scoreboard.util.Logger;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.craftbukkit.v1_12_R1.testkit.VersionedServer;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * A server without any networking for tests, benchmarks and load
+ * simulations. The server and its players are stubs that only answer
+ * what the plugin asks of them and every packet is created by the real
+ * 1.12 protocol implementation, but {@link RecordingScoreboard recorded}
+ * instead of being sent.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class FakeServer {
+
+    private static final World WORLD = stub(World.class, (proxy, method, args) ->
+            method.getName().equals("getName") ? "world" : defaultValue(proxy, method.getReturnType(), method.getName(), args));
+    private static boolean started;
+    private static volatile List<Player> online = Collections.emptyList();
+
+    /**
+     * Start the fake server if it is not started yet. This
+     * must be called before anything in the plugin is used.
+     */
+    public static synchronized void start() {
+
+        if (started) {
+            return;
+        }
+
+        started = true;
+        java.util.logging.Logger logger = java.util.logging.Logger.getLogger("Scoreboard");
+        logger.setLevel(Level.WARNING); // Keep the output clean
+        Logger.init(stub(Plugin.class, (proxy, method, args) ->
+                method.getName().equals("getLogger") ? logger : defaultValue(proxy, method.getReturnType(), method.getName(), args)));
+        Bukkit.setServer(VersionedServer.create((proxy, method, args) -> {
+
+            switch (method.getName()) {
+                case "getName":
+                    return "FakeServer";
+                case "getVersion":
+                    return "FakeServer (MC: 1.12.2)";
+                case "getBukkitVersion":
+                    return "1.12.2-R0.1-SNAPSHOT";
+                case "getLogger":
+                    return logger;
+                case "getOnlinePlayers":
+                    return online;
+                case "isPrimaryThread":
+                    return true; // The plugin does its flushing on the main thread
+                default:
+                    return defaultValue(proxy, method.getReturnType(), method.getName(), args);
+            }
+        }));
+
+        // Record the packets instead of sending them
+        RecordingScoreboard.install();
+    }
+
+    /**
+     * Create a new player that is not in the {@link #getOnline() online}
+     * players until it is given to {@link #join(Player)} or {@link #setOnline(List)}.
+     * The player starts at the spawn of the {@link #getWorld() world} and
+     * is {@link Player#isOnline() online} until it {@link #quit(Player) quits}.
+     *
+     * @param name The name of the player.
+     * @return The new player.
+     */
+    public static Player createPlayer(String name) {
+        return stub(Player.class, new FakePlayer(name));
+    }
+
+    /**
+     * Get the only world of the server that every player is in.
+     *
+     * @return The world.
+     */
+    public static World getWorld() {
+        return WORLD;
+    }
+
+    /**
+     * Move the given player to the given coordinates.
+     *
+     * @param player The player to move (must be {@link #createPlayer(String) fake}).
+     * @param x The X coordinate to move to.
+     * @param y The Y coordinate to move to.
+     * @param z The Z coordinate to move to.
+     */
+    public static void move(Player player, double x, double y, double z) {
+
+        FakePlayer fake = (FakePlayer) Proxy.getInvocationHandler(player);
+        fake.x = x;
+        fake.y = y;
+        fake.z = z;
+    }
+
+    /**
+     * Hide the target from the viewer or show it again.
+     *
+     * @param viewer The player that can no longer see the target (must be {@link #createPlayer(String) fake}).
+     * @param target The player to hide or show.
+     * @param hidden If the target should be hidden.
+     */
+    public static void setHidden(Player viewer, Player target, boolean hidden) {
+
+        FakePlayer fake = (FakePlayer) Proxy.getInvocationHandler(viewer);
+        if (hidden) {
+            fake.hidden.add(target);
+        } else {
+            fake.hidden.remove(target);
+        }
+    }
+
+    /**
+     * Get the players that are currently online.
+     *
+     * @return The online players.
+     */
+    public static List<Player> getOnline() {
+        return online;
+    }
+
+    /**
+     * Set the players that are online and rebuild the roster
+     * of online players from them.
+     *
+     * @param players The players that are now online.
+     */
+    public static synchronized void setOnline(List<Player> players) {
+        online = Collections.unmodifiableList(new ArrayList<>(players));
+        PluginHooks.refreshRoster();
+    }
+
+    /**
+     * Bring the player online and do everything the plugin
+     * does when a player joins.
+     *
+     * @param player The player that is joining.
+     */
+    public static synchronized void join(Player player) {
+
+        List<Player> players = new ArrayList<>(online.size() + 1);
+        players.addAll(online);
+        players.add(player);
+        online = Collections.unmodifiableList(players);
+        PluginHooks.join(player);
+    }
+
+    /**
+     * Take the player offline and do everything the plugin
+     * does when a player quits.
+     *
+     * @param player The player that is quitting.
+     */
+    public static synchronized void quit(Player player) {
+
+        List<Player> players = new ArrayList<>(online);
+        players.remove(player);
+        PluginHooks.quit(player);
+        online = Collections.unmodifiableList(players);
+        ((FakePlayer) Proxy.getInvocationHandler(player)).online = false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(FakeServer.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    private static Object defaultValue(Object proxy, Class<?> type, String name, Object[] args) {
+
+        switch (name) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "Fake@" + Integer.toHexString(System.identityHashCode(proxy));
+        }
+
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+
+        if (type == boolean.class) {
+            return false;
+        }
+
+        if (type == char.class) {
+            return '\0';
+        }
+
+        if (type == long.class) {
+            return 0L;
+        }
+
+        if (type == float.class) {
+            return 0F;
+        }
+
+        if (type == double.class) {
+            return 0D;
+        }
+
+        return type == byte.class ? (byte) 0 : type == short.class ? (short) 0 : (Object) 0;
+    }
+
+    private FakeServer() {
+    }
+
+    /**
+     * The state of a fake player that only changes when the
+     * player is {@link #move(Player, double, double, double) moved}.
+     */
+    private static final class FakePlayer implements InvocationHandler {
+
+        private final String name;
+        private final UUID uuid;
+        private volatile double x, y = 64, z;
+        private volatile boolean online = true;
+        private final Set<Player> hidden = ConcurrentHashMap.newKeySet();
+
+        FakePlayer(String name) {
+            this.name = name;
+            this.uuid = UUID.nameUUIDFromBytes(("FakePlayer:" + name).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+
+            switch (method.getName()) {
+                case "getName":
+                case "getDisplayName":
+                case "getPlayerListName":
+                    return this.name;
+                case "getUniqueId":
+                    return this.uuid;
+                case "isOnline":
+                    return this.online;
+                case "canSee":
+                    return !this.hidden.contains(args[0]);
+                case "getWorld":
+                    return WORLD;
+                case "getLocation":
+
+                    if (args == null) {
+                        return new Location(WORLD, this.x, this.y, this.z);
+                    }
+
+                    Location location = (Location) args[0];
+                    if (location != null) {
+                        location.setWorld(WORLD);
+                        location.setX(this.x);
+                        location.setY(this.y);
+                        location.setZ(this.z);
+                    }
+
+                    return location;
+                default:
+                    return defaultValue(proxy, method.getReturnType(), method.getName(), args);
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.andavin.scoreboard.testkit;
+
+import com.andavin.scoreboard.protocol.Scoreboard;
+import com.andavin.scoreboard.protocol.v1_12_R1.ScoreboardImpl;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraft.server.v1_12_R1.Packet;
+import net.minecraft.server.v1_12_R1.PacketDataSerializer;
+import org.bukkit.entity.Player;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The 1.12 protocol implementation that creates every packet as
+ * normal, but counts them instead of sending them to a connection.
+ * When {@link #setRecording(boolean) recording}, every packet is also
+ * kept along with the player it was sent to until it is {@link #drain()
+ * drained}.
+ * <p>
+ * Only {@link com.andavin.scoreboard.protocol.PacketMode#NMS NMS}
+ * packets go through this implementation.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class RecordingScoreboard extends ScoreboardImpl {
+
+    private static final LongAdder SENT = new LongAdder();
+    private static final Queue<Sent> RECORDED = new ConcurrentLinkedQueue<>();
+    private static volatile boolean recording;
+
+    /**
+     * Replace the 1.12 protocol implementation with a new
+     * recording implementation. The {@link FakeServer} must
+     * already be set as the server.
+     */
+    static void install() {
+        Scoreboard.setImplementation(new RecordingScoreboard());
+    }
+
+    /**
+     * Get the amount of packets that have been sent so far.
+     *
+     * @return The amount of packets sent.
+     */
+    public static long getSent() {
+        return SENT.sum();
+    }
+
+    /**
+     * Set whether every packet that is sent should be kept
+     * until it is {@link #drain() drained} or only counted.
+     * <p>
+     * Default {@code false}
+     *
+     * @param recording If packets should be recorded.
+     */
+    public static void setRecording(boolean recording) {
+        RecordingScoreboard.recording = recording;
+    }
+
+    /**
+     * Take every packet that has been recorded since the
+     * last time this was called.
+     *
+     * @return The recorded packets in the order they were sent.
+     */
+    public static List<Sent> drain() {
+
+        List<Sent> sent = new ArrayList<>();
+        Sent next;
+        while ((next = RECORDED.poll()) != null) {
+            sent.add(next);
+        }
+
+        return sent;
+    }
+
+    /**
+     * Get the size in bytes of the given packet once it is written
+     * (not including the packet ID or the length and compression
+     * that wrap it on the connection).
+     *
+     * @param packet The packet to get the size of.
+     * @return The size of the packet.
+     * @throws IllegalStateException If the packet cannot be written.
+     */
+    public static int getSize(Object packet) throws IllegalStateException {
+
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            ((Packet<?>) packet).b(new PacketDataSerializer(buf));
+            return buf.readableBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to write packet " + packet.getClass().getSimpleName() + '.', e);
+        } finally {
+            buf.release();
+        }
+    }
+
+    @Override
+    protected void send(Player player, Object packet) {
+        record(player, packet);
+    }
+
+    @Override
+    protected <T> void send(Player player, List<T> packets) {
+
+        for (T packet : packets) {
+            record(player, packet);
+        }
+    }
+
+    private static void record(Player player, Object packet) {
+
+        SENT.increment();
+        if (recording) {
+            RECORDED.add(new Sent(player, packet));
+        }
+    }
+
+    /**
+     * A packet that was sent to a player.
+     */
+    public static final class Sent {
+
+        private final Player player;
+        private final Object packet;
+
+        Sent(Player player, Object packet) {
+            this.player = player;
+            this.packet = packet;
+        }
+
+        /**
+         * Get the player that the packet was sent to.
+         *
+         * @return The player.
+         */
+        public Player getPlayer() {
+            return this.player;
+        }
+
+        /**
+         * Get the packet that was sent.
+         *
+         * @return The packet.
+         */
+        public Object getPacket() {
+            return this.packet;
+        }
+    }
+}
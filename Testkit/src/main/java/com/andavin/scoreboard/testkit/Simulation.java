@@ -0,0 +1,226 @@
+package com.andavin.scoreboard.testkit;
+
+import com.andavin.scoreboard.PluginHooks;
+import com.andavin.scoreboard.SBPlugin;
+import com.andavin.scoreboard.name.BelowName;
+import com.andavin.scoreboard.name.PlayerName;
+import com.andavin.scoreboard.sidebar.Sidebar;
+import com.andavin.scoreboard.sidebar.SidebarType;
+import com.andavin.scoreboard.testkit.RecordingScoreboard.Sent;
+import com.andavin.scoreboard.util.NoLimit;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scripted load test on the {@link FakeServer}. Players join a
+ * batch at a time until they are all online, while every tick they
+ * randomly rank up, lose health and earn coins and their sidebar
+ * clocks tick every second.
+ * <p>
+ * Players are spread out over a square of the world and some of them
+ * walk around every tick. If a tracking range is given, then names and
+ * below name scores are only sent to players in range and the players
+ * that come into range are resynced as the plugin would.
+ * <p>
+ * The packets and bytes that are sent and the CPU time that is spent
+ * are measured for every tick and reported once per second of ticks.
+ * The CPU time includes running the script itself, but not measuring
+ * the packets.
+ * <pre>
+ * java -cp Testkit/target/scoreboard-testkit-2.0-SNAPSHOT-all.jar:spigot-1.12.2.jar \
+ *     com.andavin.scoreboard.testkit.Simulation [players] [ticks] [sidebar type] [tracking range]
+ * </pre>
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class Simulation {
+
+    private static final int JOINS_PER_TICK = 50, TICKS_PER_SECOND = 20, LINES = 12, RESYNC_INTERVAL = 10;
+    private static final double RANK_UP_CHANCE = 0.001, DAMAGE_CHANCE = 0.02, COINS_CHANCE = 0.05;
+    // Players walk a little less than a block every tick
+    private static final double WALKING_CHANCE = 0.3, WALKING_SPEED = 0.2, AREA = 512;
+    private static final String[] RANKS = {
+            ChatColor.GRAY.toString(),
+            ChatColor.GREEN + "[VIP] ",
+            ChatColor.AQUA + "[MVP] ",
+            ChatColor.GOLD + "[Elite] ",
+            ChatColor.RED + "[Admin] "
+    };
+
+    public static void main(String[] args) {
+
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+        SidebarType type = args.length > 2 ? SidebarType.valueOf(args[2].toUpperCase()) : SidebarType.SCORE;
+        int range = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+        FakeServer.start();
+        SBPlugin.setSideBarType(type);
+        PluginHooks.setTrackingRange(range);
+        System.out.printf("Simulating %d players for %d ticks with %s sidebars and a tracking range of %d.%n",
+                players, ticks, type, range);
+        new Simulation(players).run(ticks);
+    }
+
+    private final int players;
+    private final Random random = new Random(2026);
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final List<SimulatedPlayer> online = new ArrayList<>();
+    private final Map<String, long[]> totals = new TreeMap<>(); // Packet type to count and bytes
+    private long packets, bytes, cpu, maxCpu;
+
+    /**
+     * Create a new simulation that will bring the
+     * given amount of players online.
+     *
+     * @param players The amount of players to simulate.
+     */
+    public Simulation(int players) {
+        this.players = players;
+    }
+
+    /**
+     * Run the simulation for the given amount of ticks
+     * and report the measurements as it goes.
+     *
+     * @param ticks The amount of ticks to run for.
+     */
+    public void run(int ticks) {
+
+        RecordingScoreboard.setRecording(true);
+        try {
+
+            for (int tick = 0; tick < ticks; tick++) {
+
+                long start = this.threads.getCurrentThreadCpuTime();
+                this.tick(tick);
+                long spent = this.threads.getCurrentThreadCpuTime() - start;
+                this.cpu += spent;
+                this.maxCpu = Math.max(this.maxCpu, spent);
+                this.measure();
+                if ((tick + 1) % TICKS_PER_SECOND == 0) {
+                    this.report(tick + 1);
+                }
+            }
+        } finally {
+            RecordingScoreboard.setRecording(false);
+        }
+
+        System.out.println("Totals by packet type:");
+        this.totals.forEach((type, total) ->
+                System.out.printf("  %-45s %10d packets %12d bytes%n", type, total[0], total[1]));
+    }
+
+    private void tick(int tick) {
+
+        for (int i = 0; i < JOINS_PER_TICK && this.online.size() < this.players; i++) {
+            this.online.add(new SimulatedPlayer(this.online.size(),
+                    this.random.nextDouble() * AREA, this.random.nextDouble() * AREA));
+        }
+
+        boolean second = tick % TICKS_PER_SECOND == 0;
+        for (SimulatedPlayer player : this.online) {
+
+            if (this.random.nextDouble() < WALKING_CHANCE) {
+                double angle = this.random.nextDouble() * 2 * Math.PI;
+                player.x = Math.min(AREA, Math.max(0, player.x + Math.cos(angle) * WALKING_SPEED));
+                player.z = Math.min(AREA, Math.max(0, player.z + Math.sin(angle) * WALKING_SPEED));
+                FakeServer.move(player.player, player.x, 64, player.z);
+            }
+
+            if (player.rank + 1 < RANKS.length && this.random.nextDouble() < RANK_UP_CHANCE) {
+                player.name.update(RANKS[++player.rank], "");
+            }
+
+            if (this.random.nextDouble() < DAMAGE_CHANCE) {
+                player.belowName.setScore(1 + this.random.nextInt(20));
+            }
+
+            boolean coins = this.random.nextDouble() < COINS_CHANCE;
+            if (coins) {
+                player.coins += 1 + this.random.nextInt(100);
+            }
+
+            if (coins || second) {
+                player.sidebar.display(player.lines(tick / TICKS_PER_SECOND));
+            }
+        }
+
+        PluginHooks.tick();
+        if (SBPlugin.getTrackingRange() > 0 && tick % RESYNC_INTERVAL == 0) {
+            PluginHooks.resync();
+        }
+    }
+
+    private void measure() {
+
+        for (Sent sent : RecordingScoreboard.drain()) {
+
+            int size = RecordingScoreboard.getSize(sent.getPacket());
+            long[] total = this.totals.computeIfAbsent(sent.getPacket().getClass().getSimpleName(), type -> new long[2]);
+            total[0]++;
+            total[1] += size;
+            this.packets++;
+            this.bytes += size;
+        }
+    }
+
+    private void report(int tick) {
+
+        System.out.printf("Tick %5d: %5d online, %8.1f packets/tick, %8.1f KiB/tick, %6.2f ms CPU/tick (max %.2f ms)%n",
+                tick, this.online.size(), (double) this.packets / TICKS_PER_SECOND,
+                this.bytes / 1024D / TICKS_PER_SECOND, this.cpu / 1e6 / TICKS_PER_SECOND,
+                this.maxCpu / (double) TimeUnit.MILLISECONDS.toNanos(1));
+        this.packets = this.bytes = this.cpu = this.maxCpu = 0;
+    }
+
+    private static final class SimulatedPlayer {
+
+        private final Player player;
+        private final Sidebar sidebar;
+        private final PlayerName name;
+        private final BelowName belowName;
+        private final String[] lines = new String[LINES];
+        private int rank, coins;
+        private double x, z;
+
+        SimulatedPlayer(int id, double x, double z) {
+
+            Player player = this.player = FakeServer.createPlayer("Player" + id);
+            this.x = x;
+            this.z = z;
+            FakeServer.move(player, x, 64, z);
+            FakeServer.join(player);
+            this.sidebar = Sidebar.create(player, ChatColor.GOLD.toString() + ChatColor.BOLD + "Simulation", new NoLimit());
+            this.name = new PlayerName(player);
+            this.name.update(RANKS[0], "");
+            this.belowName = new BelowName(player, ChatColor.RED + "Health");
+            this.belowName.setScore(20);
+            for (int i = 0; i < LINES; i++) {
+                this.lines[i] = ChatColor.GRAY + "Line " + i;
+            }
+
+            this.lines[0] = ChatColor.YELLOW + "Player" + id;
+            this.lines[LINES - 1] = ChatColor.GRAY + "play.example.com";
+            this.sidebar.display(this.lines(0));
+        }
+
+        String[] lines(int seconds) {
+
+            String[] lines = this.lines.clone();
+            lines[2] = ChatColor.GOLD + "Coins: " + ChatColor.WHITE + this.coins;
+            lines[3] = ChatColor.GREEN + "Rank: " + RANKS[this.rank];
+            lines[4] = ChatColor.AQUA + "Time: " + ChatColor.WHITE + seconds / 60 + ':' + (seconds % 60 < 10 ? "0" : "") + seconds % 60;
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.bukkit.craftbukkit.v1_12_R1.testkit;
+
+import org.bukkit.Server;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates the {@link Server} of the test kit. The plugin finds the
+ * version of Minecraft from the package that the server class is in
+ * (e.g. {@code org.bukkit.craftbukkit.v1_12_R1}), so the server is
+ * a proxy that is defined in this package.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public final class VersionedServer {
+
+    /**
+     * Create a new server that passes every method call
+     * to the given handler.
+     *
+     * @param handler The handler to answer the method calls.
+     * @return The new server.
+     */
+    public static Server create(InvocationHandler handler) {
+        return (Server) Proxy.newProxyInstance(VersionedServer.class.getClassLoader(),
+                new Class<?>[] { CraftServer.class }, handler);
+    }
+
+    // Not public so that the proxy class is defined in this package
+    interface CraftServer extends Server {
+    }
+
+    private VersionedServer() {
+    }
+}
@@ -0,0 +1,111 @@
+package com.andavin.scoreboard.testkit;
+
+import com.andavin.scoreboard.PluginHooks;
+import com.andavin.scoreboard.name.PlayerName;
+import com.andavin.scoreboard.testkit.RecordingScoreboard.Sent;
+import org.bukkit.entity.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that name updates are only sent to players in range
+ * and that players are resynced once they come into range.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class InterestTest {
+
+    private Player target, viewer;
+    private PlayerName name;
+
+    @BeforeClass
+    public static void startServer() {
+        FakeServer.start();
+    }
+
+    @Before
+    public void join() {
+
+        PluginHooks.setTrackingRange(16);
+        this.target = FakeServer.createPlayer("Target");
+        this.viewer = FakeServer.createPlayer("Viewer");
+        FakeServer.move(this.viewer, 100, 64, 0);
+        FakeServer.join(this.target);
+        FakeServer.join(this.viewer);
+        PluginHooks.resync(); // Both are new so nothing is missing yet
+        this.name = new PlayerName(this.target);
+        RecordingScoreboard.setRecording(true);
+    }
+
+    @After
+    public void quit() {
+        RecordingScoreboard.setRecording(false);
+        RecordingScoreboard.drain();
+        FakeServer.quit(this.target);
+        FakeServer.quit(this.viewer);
+        PluginHooks.setTrackingRange(0);
+    }
+
+    @Test
+    public void playersOutOfRangeAreSkipped() {
+
+        this.name.update("[VIP] ", "");
+        PluginHooks.tick();
+        assertTrue(RecordingScoreboard.drain().isEmpty());
+    }
+
+    @Test
+    public void playersComingIntoRangeAreResynced() {
+
+        this.name.update("[VIP] ", "");
+        PluginHooks.tick();
+        RecordingScoreboard.drain();
+
+        FakeServer.move(this.viewer, 5, 64, 0);
+        PluginHooks.resync();
+        List<Sent> sent = RecordingScoreboard.drain();
+        assertEquals(1, sent.size());
+        assertSame(this.viewer, sent.get(0).getPlayer());
+
+        // Nothing has changed or moved since
+        PluginHooks.resync();
+        assertTrue(RecordingScoreboard.drain().isEmpty());
+    }
+
+    @Test
+    public void hiddenPlayersAreSkippedWithoutARange() {
+
+        PluginHooks.setTrackingRange(0);
+        FakeServer.setHidden(this.viewer, this.target, true);
+        this.name.update("[VIP] ", "");
+        PluginHooks.tick();
+        assertTrue(RecordingScoreboard.drain().isEmpty());
+
+        // Showing the target without moving needs an explicit resync
+        FakeServer.setHidden(this.viewer, this.target, false);
+        PluginHooks.resync(this.target);
+        List<Sent> sent = RecordingScoreboard.drain();
+        assertEquals(1, sent.size());
+        assertSame(this.viewer, sent.get(0).getPlayer());
+    }
+
+    @Test
+    public void playersInRangeAreUpdatedRightAway() {
+
+        FakeServer.move(this.viewer, 5, 64, 0);
+        this.name.update("[VIP] ", "");
+        PluginHooks.tick();
+        List<Sent> sent = RecordingScoreboard.drain();
+        assertEquals(1, sent.size());
+        assertSame(this.viewer, sent.get(0).getPlayer());
+    }
+}
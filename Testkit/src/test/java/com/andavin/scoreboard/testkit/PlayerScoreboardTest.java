@@ -0,0 +1,86 @@
+package com.andavin.scoreboard.testkit;
+
+import com.andavin.scoreboard.PlayerScoreboard;
+import com.andavin.scoreboard.name.BelowName;
+import com.andavin.scoreboard.name.PlayerName;
+import com.andavin.scoreboard.sidebar.Sidebar;
+import com.andavin.scoreboard.util.NoLimit;
+import org.bukkit.entity.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that updates which are still in the mailbox of a
+ * {@link PlayerScoreboard} when its player quits are dropped.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class PlayerScoreboardTest {
+
+    private Player player;
+
+    @BeforeClass
+    public static void startServer() {
+        FakeServer.start();
+    }
+
+    @Before
+    public void join() {
+        this.player = FakeServer.createPlayer("Quitter");
+        FakeServer.join(this.player);
+        RecordingScoreboard.setRecording(true);
+    }
+
+    @After
+    public void stopRecording() {
+        RecordingScoreboard.setRecording(false);
+        RecordingScoreboard.drain();
+    }
+
+    @Test
+    public void createsQueuedBeforeAQuitAreDropped() {
+
+        PlayerScoreboard scoreboard = PlayerScoreboard.get(this.player);
+        scoreboard.execute(() -> {
+            // These are queued behind this update, so they
+            // would only be processed after the player quit
+            scoreboard.createSidebar("Sidebar");
+            scoreboard.setName("[VIP] ", "");
+            scoreboard.createBelowName("Health");
+            FakeServer.quit(this.player);
+        });
+
+        assertNull(scoreboard.getSidebar());
+        assertNull(PlayerName.get(this.player));
+        assertNull(BelowName.get(this.player));
+        assertTrue(RecordingScoreboard.drain().isEmpty());
+    }
+
+    @Test
+    public void updatesAfterAQuitAreDropped() {
+
+        PlayerScoreboard scoreboard = PlayerScoreboard.get(this.player);
+        FakeServer.quit(this.player);
+        scoreboard.setName("[VIP] ", "");
+        assertNull(PlayerName.get(this.player));
+        assertTrue(RecordingScoreboard.drain().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void offlinePlayersHaveNoScoreboard() {
+        FakeServer.quit(this.player);
+        PlayerScoreboard.get(this.player);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void offlinePlayersCannotHaveModules() {
+        FakeServer.quit(this.player);
+        Sidebar.create(this.player, "Sidebar", new NoLimit());
+    }
+}
@@ -0,0 +1,121 @@
+package com.andavin.scoreboard.testkit;
+
+import com.andavin.scoreboard.PluginHooks;
+import com.andavin.scoreboard.SBPlugin;
+import com.andavin.scoreboard.name.PlayerName;
+import com.andavin.scoreboard.testkit.RecordingScoreboard.Sent;
+import org.bukkit.entity.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the shared rank teams are only changed for players
+ * that have them and that joining a team is only sent to players
+ * that can see the member.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class RankTeamsTest {
+
+    private Player member, other, viewer;
+    private PlayerName name, otherName;
+
+    @BeforeClass
+    public static void startServer() {
+        FakeServer.start();
+    }
+
+    @Before
+    public void join() {
+
+        PluginHooks.setGroupingNames(true);
+        this.member = FakeServer.createPlayer("Member");
+        this.other = FakeServer.createPlayer("Other");
+        this.viewer = FakeServer.createPlayer("Viewer");
+        FakeServer.join(this.member);
+        FakeServer.join(this.other);
+        this.name = new PlayerName(this.member);
+        this.otherName = new PlayerName(this.other);
+        RecordingScoreboard.setRecording(true);
+    }
+
+    @After
+    public void quit() {
+
+        RecordingScoreboard.setRecording(false);
+        RecordingScoreboard.drain();
+        for (Player player : Arrays.asList(this.member, this.other, this.viewer)) {
+
+            if (FakeServer.getOnline().contains(player)) {
+                FakeServer.quit(player);
+            }
+        }
+
+        PluginHooks.setGroupingNames(false);
+    }
+
+    @Test
+    public void playersWithoutTheTeamsAreSkipped() {
+
+        // Online, but the teams have not been sent yet
+        FakeServer.setOnline(Arrays.asList(this.member, this.other, this.viewer));
+        this.name.update("[VIP] ", "");
+        PluginHooks.tick();
+        List<Sent> sent = RecordingScoreboard.drain();
+        assertEquals(0, count(sent, this.viewer));
+        // Everyone with the teams has to know about a new team
+        assertEquals(1, count(sent, this.member));
+        assertEquals(1, count(sent, this.other));
+
+        SBPlugin.updateNameScoreboard(this.viewer);
+        assertEquals(1, count(RecordingScoreboard.drain(), this.viewer)); // The new team with its member
+        this.name.update("[MVP] ", "");
+        PluginHooks.tick();
+        // The old team removed and the new one created
+        assertEquals(2, count(RecordingScoreboard.drain(), this.viewer));
+    }
+
+    @Test
+    public void joiningATeamIsOnlySentToPlayersThatSeeTheMember() {
+
+        FakeServer.join(this.viewer);
+        this.name.update("[VIP] ", "");
+        this.otherName.update("[MVP] ", "");
+        PluginHooks.tick();
+        RecordingScoreboard.drain();
+
+        FakeServer.setHidden(this.viewer, this.member, true);
+        this.name.update("[MVP] ", "");
+        PluginHooks.tick();
+        List<Sent> sent = RecordingScoreboard.drain();
+        assertEquals(1, count(sent, this.viewer)); // Only the empty team being removed
+        assertEquals(2, count(sent, this.other)); // And the member joining the team
+
+        FakeServer.setHidden(this.viewer, this.member, false);
+        PluginHooks.resync(this.member);
+        sent = RecordingScoreboard.drain();
+        assertEquals(1, count(sent, this.viewer)); // Now the member joining the team
+        assertEquals(0, count(sent, this.other));
+    }
+
+    private static int count(List<Sent> sent, Player player) {
+
+        int count = 0;
+        for (Sent packet : sent) {
+
+            if (packet.getPlayer() == player) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,174 @@
+package com.andavin.scoreboard.testkit;
+
+import com.andavin.scoreboard.SBPlugin;
+import com.andavin.scoreboard.sidebar.SharedSidebar;
+import com.andavin.scoreboard.sidebar.Sidebar;
+import com.andavin.scoreboard.sidebar.SidebarType;
+import com.andavin.scoreboard.testkit.RecordingScoreboard.Sent;
+import com.andavin.scoreboard.util.NoLimit;
+import org.bukkit.entity.Player;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the packets that every {@link SidebarType} sends to
+ * change the lines that are displayed.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class SidebarDiffTest {
+
+    private static final String SCORE = "PacketPlayOutScoreboardScore", TEAM = "PacketPlayOutScoreboardTeam",
+            OBJECTIVE = "PacketPlayOutScoreboardObjective";
+
+    private Player player;
+    private Sidebar sidebar;
+
+    @BeforeClass
+    public static void startServer() {
+        FakeServer.start();
+    }
+
+    @Before
+    public void join() {
+        this.player = FakeServer.createPlayer("DiffTest");
+        FakeServer.join(this.player);
+        RecordingScoreboard.setRecording(true);
+    }
+
+    @After
+    public void quit() {
+        RecordingScoreboard.setRecording(false);
+        RecordingScoreboard.drain();
+        FakeServer.quit(this.player);
+    }
+
+    @Test
+    public void scoreSidebarOnlySendsChangedLines() {
+
+        this.create(SidebarType.SCORE, "a", "b", "c");
+        // The old line is removed and the new one is added
+        assertEquals(packets(SCORE, 2), this.display("a", "b", "d"));
+        assertEquals(packets(), this.display("a", "b", "d"));
+        // Scores count up from the bottom, so only the lines above a
+        // removed line need a new score along with the removal itself
+        assertEquals(packets(SCORE, 2), this.display("a", "d"));
+    }
+
+    @Test
+    public void scoreSidebarMatchesMovedLinesByText() {
+
+        this.create(SidebarType.SCORE, "a", "b", "c");
+        // Only the new line needs a score since the others keep theirs
+        assertEquals(packets(SCORE, 1), this.display("new", "a", "b", "c"));
+        // Swapping two lines only changes their scores
+        assertEquals(packets(SCORE, 2), this.display("new", "b", "a", "c"));
+    }
+
+    @Test
+    public void scoreSidebarRescoresTheLinesAboveAnInsertion() {
+
+        String[] lines = new String[12];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = "line " + i;
+        }
+
+        this.create(SidebarType.SCORE, lines);
+        // Appending moves every score up by one along with the new line
+        String[] appended = Arrays.copyOf(lines, 13);
+        appended[12] = "appended";
+        assertEquals(packets(SCORE, 13), this.display(appended));
+
+        this.sidebar.destroy();
+        this.create(SidebarType.SCORE, lines);
+        // Only the six lines above the inserted line are moved up
+        String[] inserted = new String[13];
+        System.arraycopy(lines, 0, inserted, 0, 6);
+        inserted[6] = "inserted";
+        System.arraycopy(lines, 6, inserted, 7, 6);
+        assertEquals(packets(SCORE, 7), this.display(inserted));
+    }
+
+    @Test
+    public void fixedSidebarOnlyUpdatesTeams() {
+
+        this.create(SidebarType.FIXED, "a", "b", "c");
+        assertEquals(packets(TEAM, 1), this.display("a", "changed", "c"));
+        assertEquals(packets(), this.display("a", "changed", "c"));
+        // Every row moves up when one is removed
+        assertEquals(packets(SCORE, 3, TEAM, 1), this.display("a", "changed"));
+    }
+
+    @Test
+    public void fixedSidebarRemovesItsRowTeams() {
+
+        this.create(SidebarType.FIXED, "a", "b", "c");
+        this.sidebar.destroy();
+        assertEquals(packets(OBJECTIVE, 1, TEAM, 3), count(RecordingScoreboard.drain()));
+    }
+
+    @Test
+    public void teamSidebarReplacesTheEntryOfChangedLines() {
+
+        this.create(SidebarType.TEAM, "a", "b", "c");
+        assertEquals(packets(), this.display("a", "b", "c"));
+        Map<String, Integer> changed = this.display("a", "changed", "c");
+        assertEquals(2, (int) changed.get(SCORE)); // The old entry and the new one
+    }
+
+    @Test
+    public void sharedSidebarRemovesItsRowTeams() {
+
+        SBPlugin.setSideBarType(SidebarType.FIXED);
+        SharedSidebar shared = SharedSidebar.create("Shared", new NoLimit());
+        shared.addViewer(this.player);
+        shared.display("a", "b", "c");
+        RecordingScoreboard.drain();
+        shared.removeViewer(this.player);
+        assertEquals(packets(OBJECTIVE, 1, TEAM, 3), count(RecordingScoreboard.drain()));
+        shared.destroy();
+    }
+
+    private void create(SidebarType type, String... lines) {
+        SBPlugin.setSideBarType(type);
+        this.sidebar = Sidebar.create(this.player, "Diff", new NoLimit());
+        this.sidebar.display(lines);
+        RecordingScoreboard.drain();
+    }
+
+    private Map<String, Integer> display(String... lines) {
+
+        this.sidebar.display(lines);
+        return count(RecordingScoreboard.drain());
+    }
+
+    private static Map<String, Integer> count(List<Sent> packets) {
+
+        Map<String, Integer> sent = new TreeMap<>();
+        for (Sent packet : packets) {
+            sent.merge(packet.getPacket().getClass().getSimpleName(), 1, Integer::sum);
+        }
+
+        return sent;
+    }
+
+    private static Map<String, Integer> packets(Object... typesAndCounts) {
+
+        Map<String, Integer> packets = new TreeMap<>();
+        for (int i = 0; i < typesAndCounts.length; i += 2) {
+            packets.put((String) typesAndCounts[i], (Integer) typesAndCounts[i + 1]);
+        }
+
+        return packets;
+    }
+}
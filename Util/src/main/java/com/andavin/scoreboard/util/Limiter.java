@@ -49,4 +49,20 @@ public class Limiter {
     public boolean isLimited() {
         return System.currentTimeMillis() - this.limit < this.lastUpdate;
     }
+
+    /**
+     * Schedule the given task to run once this limiter is no
+     * longer {@link #isLimited() limited} so that the latest
+     * operation that was limited is not lost (the trailing edge).
+     * <p>
+     * By default, limited operations are simply dropped and
+     * nothing will be scheduled.
+     *
+     * @param task The task to run once the limit is up.
+     * @return If the task is scheduled to run or another
+     *         trailing task is already scheduled.
+     */
+    public boolean scheduleTrailing(Runnable task) {
+        return false;
+    }
 }
@@ -2,6 +2,8 @@ package com.andavin.scoreboard.util;
 
 import org.bukkit.Bukkit;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -159,6 +161,70 @@ public final class Reflection {
         return value;
     }
 
+    /**
+     * Get a {@link MethodHandle} that will set the value of the field
+     * with the given name inside of the specified class. The handle is
+     * unreflected directly from the field so that its type is exactly
+     * {@code (DeclaringClass, FieldType)void} and it can be invoked
+     * with {@link MethodHandle#invokeExact(Object...)} without any boxing
+     * or access checks on each invocation.
+     * <p>
+     * Handles should be retrieved once and stored in a {@code static final}
+     * field so that the JIT is able to inline them.
+     *
+     * @param clazz The class the field belongs to.
+     * @param name The name of the field.
+     * @return The setter handle or null if no field exists.
+     */
+    public static MethodHandle getSetter(Class<?> clazz, String name) {
+
+        Field field = Reflection.getField(clazz, name);
+        if (field == null) {
+            return null;
+        }
+
+        if (!field.isAccessible()) {
+            field.setAccessible(true);
+        }
+
+        try {
+            return MethodHandles.lookup().unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            Logger.severe(e);
+            return null;
+        }
+    }
+
+    /**
+     * Get a {@link MethodHandle} that will get the value of the field
+     * with the given name inside of the specified class. The handle is
+     * unreflected directly from the field so that its type is exactly
+     * {@code (DeclaringClass)FieldType}.
+     *
+     * @param clazz The class the field belongs to.
+     * @param name The name of the field.
+     * @return The getter handle or null if no field exists.
+     * @see #getSetter(Class, String)
+     */
+    public static MethodHandle getGetter(Class<?> clazz, String name) {
+
+        Field field = Reflection.getField(clazz, name);
+        if (field == null) {
+            return null;
+        }
+
+        if (!field.isAccessible()) {
+            field.setAccessible(true);
+        }
+
+        try {
+            return MethodHandles.lookup().unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            Logger.severe(e);
+            return null;
+        }
+    }
+
     /**
      * Get the field with the specified name whether it is
      * accessible or not. If there is no field with the specified
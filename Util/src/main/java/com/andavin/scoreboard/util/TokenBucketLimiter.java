@@ -0,0 +1,132 @@
+package com.andavin.scoreboard.util;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link Limiter} that allows bursts of operations. Operations
+ * take tokens from a bucket that holds, at most, the burst amount
+ * of tokens and one token is refilled every limit. An operation
+ * is {@link #isLimited() limited} while the bucket is empty.
+ * <p>
+ * Time is measured using {@link System#nanoTime()} so that this
+ * is not affected by changes to the system clock. When an operation
+ * is limited a {@link #scheduleTrailing(Runnable) trailing} task
+ * will be run as soon as the next token is available so that the
+ * latest operation always happens.
+ * <p>
+ * Trailing tasks are run on a single shared thread that is
+ * started when the first task is scheduled. It must be
+ * {@link #shutdown() shut down} when the plugin is disabled.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class TokenBucketLimiter extends Limiter {
+
+    private static ScheduledExecutorService scheduler;
+    private static boolean shutdown;
+
+    private final long interval, tolerance;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    // The time at which the bucket would be full if no tokens were taken
+    private long full;
+
+    /**
+     * Create a new limiter that allows the given amount of
+     * operations at once and then one more operation every limit.
+     *
+     * @param burst The maximum amount of operations to allow at once.
+     * @param limit The time it takes to refill one token based on the time unit given.
+     * @param unit The {@link TimeUnit unit} that should be used to translate the limit.
+     */
+    public TokenBucketLimiter(int burst, long limit, TimeUnit unit) {
+        super(limit, unit);
+        if (burst < 1) {
+            throw new IllegalArgumentException("The burst must be at least 1: " + burst);
+        }
+
+        this.interval = unit.toNanos(limit);
+        this.tolerance = this.interval * (burst - 1);
+        this.full = System.nanoTime();
+    }
+
+    @Override
+    public synchronized void update() {
+        // Take a token which pushes back the time the bucket is full
+        this.full = Math.max(this.full, System.nanoTime()) + this.interval;
+    }
+
+    @Override
+    public boolean isLimited() {
+        return this.getDelay() > 0;
+    }
+
+    @Override
+    public boolean scheduleTrailing(Runnable task) {
+
+        if (!this.scheduled.compareAndSet(false, true)) {
+            return true; // The trailing task will pick up the latest operation
+        }
+
+        ScheduledExecutorService scheduler = TokenBucketLimiter.getScheduler();
+        if (scheduler != null) {
+
+            try {
+                scheduler.schedule(() -> {
+                    this.scheduled.set(false);
+                    task.run();
+                }, this.getDelay(), TimeUnit.NANOSECONDS);
+                return true;
+            } catch (RejectedExecutionException ignored) {
+                // Shut down between getting it and scheduling
+            }
+        }
+
+        this.scheduled.set(false);
+        return false;
+    }
+
+    /**
+     * Stop the thread that runs trailing tasks and discard any
+     * tasks that have not run yet. After this, no more trailing
+     * tasks can be scheduled by any limiter of this type.
+     */
+    public static synchronized void shutdown() {
+
+        shutdown = true;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private static synchronized ScheduledExecutorService getScheduler() {
+
+        if (scheduler == null && !shutdown) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "Scoreboard Limiter");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return scheduler;
+    }
+
+    /**
+     * Get the amount of time until the next token will be
+     * available in the bucket.
+     *
+     * @return The delay in nanoseconds or {@code 0} or less
+     *         if a token is available now.
+     */
+    private synchronized long getDelay() {
+        // A token is available as long as the bucket is not
+        // emptier than the tolerance allows for
+        return this.full - this.tolerance - System.nanoTime();
+    }
+}
@@ -0,0 +1,71 @@
+package com.andavin.scoreboard.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since October 18, 2026
+ * @author Andavin
+ */
+public class TokenBucketLimiterTest {
+
+    @Test
+    public void allowsTheBurst() {
+
+        Limiter limiter = new TokenBucketLimiter(3, 1, TimeUnit.HOURS);
+        for (int i = 0; i < 3; i++) {
+            assertFalse("Limited after " + i + " operations", limiter.isLimited());
+            limiter.update();
+        }
+
+        assertTrue(limiter.isLimited());
+    }
+
+    @Test
+    public void refillsAfterTheLimit() throws InterruptedException {
+
+        Limiter limiter = new TokenBucketLimiter(1, 20, TimeUnit.MILLISECONDS);
+        limiter.update();
+        assertTrue(limiter.isLimited());
+        Thread.sleep(40);
+        assertFalse(limiter.isLimited());
+    }
+
+    @Test
+    public void schedulesOneTrailingTask() throws InterruptedException {
+
+        Limiter limiter = new TokenBucketLimiter(1, 20, TimeUnit.MILLISECONDS);
+        limiter.update();
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch ran = new CountDownLatch(1);
+        Runnable task = () -> {
+            runs.incrementAndGet();
+            ran.countDown();
+        };
+
+        // The second is picked up by the task that is already scheduled
+        assertTrue(limiter.scheduleTrailing(task));
+        assertTrue(limiter.scheduleTrailing(task));
+        assertTrue(ran.await(1, TimeUnit.SECONDS));
+        Thread.sleep(40);
+        assertEquals(1, runs.get());
+        assertFalse(limiter.isLimited());
+    }
+
+    @Test
+    public void plainLimiterHasNoTrailingEdge() {
+        assertFalse(new Limiter(1, TimeUnit.SECONDS).scheduleTrailing(() -> {}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsAnEmptyBucket() {
+        new TokenBucketLimiter(0, 1, TimeUnit.SECONDS);
+    }
+}
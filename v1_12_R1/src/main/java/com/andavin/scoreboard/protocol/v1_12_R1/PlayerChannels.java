@@ -0,0 +1,62 @@
+package com.andavin.scoreboard.protocol.v1_12_R1;
+
+import com.andavin.scoreboard.protocol.ChannelDispatcher;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import net.minecraft.server.v1_12_R1.PlayerConnection;
+import org.bukkit.craftbukkit.v1_12_R1.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+
+/**
+ * The Netty {@link Channel} operations of this version
+ * for the {@link ChannelDispatcher}.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+@SuppressWarnings("Duplicates")
+final class PlayerChannels extends ChannelDispatcher<Channel> {
+
+    static final PlayerChannels INSTANCE = new PlayerChannels();
+
+    private PlayerChannels() {
+    }
+
+    @Override
+    protected Channel resolve(Player player) {
+        // If this method is called while the player is still initializing
+        // then the player connection could be null
+        PlayerConnection conn = ((CraftPlayer) player).getHandle().playerConnection;
+        return conn != null ? conn.networkManager.channel : null;
+    }
+
+    @Override
+    protected boolean isOpen(Channel channel) {
+        return channel.isOpen();
+    }
+
+    @Override
+    protected void onClose(Channel channel, Runnable task) {
+        channel.closeFuture().addListener((ChannelFutureListener) future -> task.run());
+    }
+
+    @Override
+    protected boolean inEventLoop(Channel channel) {
+        return channel.eventLoop().inEventLoop();
+    }
+
+    @Override
+    protected void execute(Channel channel, Runnable task) {
+        channel.eventLoop().execute(task);
+    }
+
+    @Override
+    protected void write(Channel channel, Object packet) {
+        channel.write(packet, channel.voidPromise());
+    }
+
+    @Override
+    protected void flush(Channel channel) {
+        channel.flush();
+    }
+}
@@ -0,0 +1,75 @@
+package com.andavin.scoreboard.protocol.v1_7_R4;
+
+import com.andavin.scoreboard.protocol.ChannelDispatcher;
+import com.andavin.scoreboard.util.Reflection;
+import net.minecraft.server.v1_7_R4.NetworkManager;
+import net.minecraft.server.v1_7_R4.PlayerConnection;
+import net.minecraft.util.io.netty.channel.Channel;
+import net.minecraft.util.io.netty.channel.ChannelFutureListener;
+import org.bukkit.craftbukkit.v1_7_R4.entity.CraftPlayer;
+import org.bukkit.entity.Player;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * The Netty {@link Channel} operations of this version
+ * for the {@link ChannelDispatcher}.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+@SuppressWarnings("Duplicates")
+final class PlayerChannels extends ChannelDispatcher<Channel> {
+
+    static final PlayerChannels INSTANCE = new PlayerChannels();
+    private static final MethodHandle CHANNEL = Reflection.getGetter(NetworkManager.class, "m");
+
+    private PlayerChannels() {
+    }
+
+    @Override
+    protected Channel resolve(Player player) {
+        // If this method is called while the player is still initializing
+        // then the player connection could be null
+        PlayerConnection conn = ((CraftPlayer) player).getHandle().playerConnection;
+        if (conn == null) {
+            return null;
+        }
+
+        try {
+            return (Channel) CHANNEL.invokeExact(conn.networkManager);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to get the player channel.", e);
+        }
+    }
+
+    @Override
+    protected boolean isOpen(Channel channel) {
+        return channel.isOpen();
+    }
+
+    @Override
+    protected void onClose(Channel channel, Runnable task) {
+        channel.closeFuture().addListener((ChannelFutureListener) future -> task.run());
+    }
+
+    @Override
+    protected boolean inEventLoop(Channel channel) {
+        return channel.eventLoop().inEventLoop();
+    }
+
+    @Override
+    protected void execute(Channel channel, Runnable task) {
+        channel.eventLoop().execute(task);
+    }
+
+    @Override
+    protected void write(Channel channel, Object packet) {
+        channel.write(packet, channel.voidPromise());
+    }
+
+    @Override
+    protected void flush(Channel channel) {
+        channel.flush();
+    }
+}
@@ -1,13 +1,16 @@
 package com.andavin.scoreboard.protocol.v1_7_R4;
 
+import com.andavin.scoreboard.protocol.DispatchMode;
 import com.andavin.scoreboard.protocol.Scoreboard;
 import com.andavin.scoreboard.util.Reflection;
 import net.minecraft.server.v1_7_R4.*;
+import net.minecraft.util.io.netty.channel.Channel;
 import org.bukkit.craftbukkit.v1_7_R4.entity.CraftPlayer;
 import org.bukkit.entity.Player;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -15,67 +18,84 @@ import java.util.List;
  *
  * @author Andavin
  */
-@SuppressWarnings("Duplicates")
+@SuppressWarnings({ "Duplicates", "unchecked" })
 public class ScoreboardImpl extends Scoreboard {
 
     // Objective Fields
-    private static final Field OBJ_NAME = Reflection.getField(PacketPlayOutScoreboardObjective.class, "a");
-    private static final Field DISPLAY = Reflection.getField(PacketPlayOutScoreboardObjective.class, "b");
-    private static final Field ACTION = Reflection.getField(PacketPlayOutScoreboardObjective.class, "c");
+    private static final MethodHandle OBJ_NAME = Reflection.getSetter(PacketPlayOutScoreboardObjective.class, "a");
+    private static final MethodHandle DISPLAY = Reflection.getSetter(PacketPlayOutScoreboardObjective.class, "b");
+    private static final MethodHandle ACTION = Reflection.getSetter(PacketPlayOutScoreboardObjective.class, "c");
     // Objective Slot Fields
-    private static final Field SLOT = Reflection.getField(PacketPlayOutScoreboardDisplayObjective.class, "a");
-    private static final Field OBJ_NAME_1 = Reflection.getField(PacketPlayOutScoreboardDisplayObjective.class, "b");
+    private static final MethodHandle SLOT = Reflection.getSetter(PacketPlayOutScoreboardDisplayObjective.class, "a");
+    private static final MethodHandle OBJ_NAME_1 = Reflection.getSetter(PacketPlayOutScoreboardDisplayObjective.class, "b");
     // Score Fields
-    private static final Field OBJ_NAME_2 = Reflection.getField(PacketPlayOutScoreboardScore.class, "b");
-    private static final Field SCORE = Reflection.getField(PacketPlayOutScoreboardScore.class, "c");
-    private static final Field ACTION_1 = Reflection.getField(PacketPlayOutScoreboardScore.class, "d");
+    private static final MethodHandle OBJ_NAME_2 = Reflection.getSetter(PacketPlayOutScoreboardScore.class, "b");
+    private static final MethodHandle SCORE = Reflection.getSetter(PacketPlayOutScoreboardScore.class, "c");
+    private static final MethodHandle ACTION_1 = Reflection.getSetter(PacketPlayOutScoreboardScore.class, "d");
     // Team Fields
-    private static final Field TEAM_NAME = Reflection.getField(PacketPlayOutScoreboardTeam.class, "a");
-    private static final Field DISPLAY_NAME = Reflection.getField(PacketPlayOutScoreboardTeam.class, "b");
-    private static final Field PREFIX = Reflection.getField(PacketPlayOutScoreboardTeam.class, "c");
-    private static final Field SUFFIX = Reflection.getField(PacketPlayOutScoreboardTeam.class, "d");
-    private static final Field ENTRIES = Reflection.getField(PacketPlayOutScoreboardTeam.class, "e");
-    private static final Field ACTION_2 = Reflection.getField(PacketPlayOutScoreboardTeam.class, "f");
+    private static final MethodHandle TEAM_NAME = Reflection.getSetter(PacketPlayOutScoreboardTeam.class, "a");
+    private static final MethodHandle DISPLAY_NAME = Reflection.getSetter(PacketPlayOutScoreboardTeam.class, "b");
+    private static final MethodHandle PREFIX = Reflection.getSetter(PacketPlayOutScoreboardTeam.class, "c");
+    private static final MethodHandle SUFFIX = Reflection.getSetter(PacketPlayOutScoreboardTeam.class, "d");
+    private static final MethodHandle ENTRIES = Reflection.getGetter(PacketPlayOutScoreboardTeam.class, "e");
+    private static final MethodHandle ACTION_2 = Reflection.getSetter(PacketPlayOutScoreboardTeam.class, "f");
 
     @Override
     protected Object createObjectivePacket(String objName, String displayName, int actionId) {
+
         PacketPlayOutScoreboardObjective packet = new PacketPlayOutScoreboardObjective();
-        Reflection.setValue(OBJ_NAME, packet, objName);
-        Reflection.setValue(DISPLAY, packet, displayName);
-        Reflection.setValue(ACTION, packet, actionId);
+        try {
+            OBJ_NAME.invokeExact(packet, objName);
+            DISPLAY.invokeExact(packet, displayName);
+            ACTION.invokeExact(packet, actionId);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create objective packet.", e);
+        }
+
         return packet;
     }
 
     @Override
     protected Object createDisplaySlotPacket(String objName, int displaySlot) {
+
         PacketPlayOutScoreboardDisplayObjective packet = new PacketPlayOutScoreboardDisplayObjective();
-        Reflection.setValue(SLOT, packet, displaySlot);
-        Reflection.setValue(OBJ_NAME_1, packet, objName);
+        try {
+            SLOT.invokeExact(packet, displaySlot);
+            OBJ_NAME_1.invokeExact(packet, objName);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create display slot packet.", e);
+        }
+
         return packet;
     }
 
     @Override
     protected Object createTeamPacket(String name, String displayName, String prefix,
-                                      String suffix, int action, String member) {
+                                      String suffix, int action, String... members) {
 
         PacketPlayOutScoreboardTeam packet = new PacketPlayOutScoreboardTeam();
-        Reflection.setValue(TEAM_NAME, packet, name);
-        Reflection.setValue(ACTION_2, packet, action);
-        if (action == 0 || action == 2) { // Create or update
-
-            Reflection.setValue(PREFIX, packet, prefix);
-            Reflection.setValue(SUFFIX, packet, suffix);
-            if (displayName != null) {
-                Reflection.setValue(DISPLAY_NAME, packet, displayName);
+        try {
+
+            TEAM_NAME.invokeExact(packet, name);
+            ACTION_2.invokeExact(packet, action);
+            if (action == 0 || action == 2) { // Create or update
+
+                PREFIX.invokeExact(packet, prefix);
+                SUFFIX.invokeExact(packet, suffix);
+                if (displayName != null) {
+                    DISPLAY_NAME.invokeExact(packet, displayName);
+                }
             }
-        }
 
-        if (action == 0 || action == 3 || action == 4) {
+            if (action == 0 || action == 3 || action == 4) {
 
-            Collection<String> entries = Reflection.getValue(ENTRIES, packet);
-            if (entries != null) {
-                entries.add(member);
+                Collection<String> entries = (Collection<String>) ENTRIES.invokeExact(packet);
+                if (entries != null) {
+                    Collections.addAll(entries, members);
+                }
             }
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create team packet.", e);
         }
 
         return packet;
@@ -83,23 +103,45 @@ public class ScoreboardImpl extends Scoreboard {
 
     @Override
     protected Object createAddPacket(String objName, String line, int score) {
+
         // Set as many fields as possible using regular Java (just one)
         PacketPlayOutScoreboardScore packet = new PacketPlayOutScoreboardScore(line);
-        Reflection.setValue(OBJ_NAME_2, packet, objName);
-        Reflection.setValue(SCORE, packet, score);
-        Reflection.setValue(ACTION_1, packet, 0);
+        try {
+            OBJ_NAME_2.invokeExact(packet, objName);
+            SCORE.invokeExact(packet, score);
+            ACTION_1.invokeExact(packet, 0);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create score packet.", e);
+        }
+
         return packet;
     }
 
     @Override
     protected Object createRemovePacket(String objName, String line) {
-        PacketPlayOutScoreboardScore score = new PacketPlayOutScoreboardScore(line);
-        Reflection.setValue(OBJ_NAME_2, score, objName);
-        return score;
+
+        PacketPlayOutScoreboardScore packet = new PacketPlayOutScoreboardScore(line);
+        try {
+            OBJ_NAME_2.invokeExact(packet, objName);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create score packet.", e);
+        }
+
+        return packet;
     }
 
     @Override
     protected void send(Player player, Object packet) {
+
+        if (Scoreboard.getDispatchMode() == DispatchMode.ASYNC) {
+
+            Channel channel = PlayerChannels.INSTANCE.get(player);
+            if (channel != null) {
+                PlayerChannels.INSTANCE.send(channel, packet);
+                return;
+            }
+        }
+
         // If this method is called while the player is still initializing
         // then the player connection could be null
         PlayerConnection conn = ((CraftPlayer) player).getHandle().playerConnection;
@@ -111,9 +153,21 @@ public class ScoreboardImpl extends Scoreboard {
     @Override
     protected <T> void send(Player player, List<T> packets) {
 
+        // Write the whole batch and flush it once, either from this
+        // thread (SYNC) or as one task on the event loop (ASYNC)
+        Channel channel = PlayerChannels.INSTANCE.get(player);
+        if (channel != null) {
+            PlayerChannels.INSTANCE.send(channel, packets);
+            return;
+        }
+
+        // Let the connection queue the packets until it is ready
         PlayerConnection conn = ((CraftPlayer) player).getHandle().playerConnection;
         if (conn != null) {
-            packets.stream().map(Packet.class::cast).forEach(conn::sendPacket);
+
+            for (int i = 0, size = packets.size(); i < size; i++) {
+                conn.sendPacket((Packet) packets.get(i));
+            }
         }
     }
 }
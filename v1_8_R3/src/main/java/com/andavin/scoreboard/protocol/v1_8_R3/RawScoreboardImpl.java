@@ -0,0 +1,136 @@
+package com.andavin.scoreboard.protocol.v1_8_R3;
+
+import com.andavin.scoreboard.protocol.Scoreboard;
+import com.andavin.scoreboard.protocol.ScoreboardEncoder;
+import com.andavin.scoreboard.protocol.ScoreboardEncoder.Format;
+import com.andavin.scoreboard.util.Logger;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.util.ReferenceCountUtil;
+import net.minecraft.server.v1_8_R3.*;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link Scoreboard} implementation that writes the wire format
+ * of each packet straight into a pooled {@link ByteBuf} and writes
+ * the buffer to the player's channel. The buffer passes through the
+ * packet encoder untouched and is then compressed and framed by
+ * the rest of the pipeline like any other packet.
+ *
+ * @since October 18, 2026
+ * @author Andavin
+ */
+@SuppressWarnings({ "Duplicates", "unchecked" })
+public class RawScoreboardImpl extends Scoreboard {
+
+    private static final ScoreboardEncoder ENCODER = new ScoreboardEncoder(Format.V1_8,
+            getId(new PacketPlayOutScoreboardObjective()), getId(new PacketPlayOutScoreboardDisplayObjective()),
+            getId(new PacketPlayOutScoreboardScore()), getId(new PacketPlayOutScoreboardTeam()));
+
+    @Override
+    protected Object createObjectivePacket(String objName, String displayName, int actionId) {
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        ENCODER.writeObjective(new ByteBufOutputStream(buf), objName, displayName, actionId);
+        return buf;
+    }
+
+    @Override
+    protected Object createDisplaySlotPacket(String objName, int displaySlot) {
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        ENCODER.writeDisplaySlot(new ByteBufOutputStream(buf), objName, displaySlot);
+        return buf;
+    }
+
+    @Override
+    protected Object createTeamPacket(String name, String displayName, String prefix,
+                                      String suffix, int action, String... members) {
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        ENCODER.writeTeam(new ByteBufOutputStream(buf), name, displayName, prefix, suffix, action, members);
+        return buf;
+    }
+
+    @Override
+    protected Object createAddPacket(String objName, String line, int score) {
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        ENCODER.writeScore(new ByteBufOutputStream(buf), objName, line, score);
+        return buf;
+    }
+
+    @Override
+    protected Object createRemovePacket(String objName, String line) {
+        ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        ENCODER.writeRemoveScore(new ByteBufOutputStream(buf), objName, line);
+        return buf;
+    }
+
+    @Override
+    protected void send(Player player, Object packet) {
+
+        // Raw buffers cannot go through the player connection, so they
+        // are always written to the channel regardless of dispatch mode
+        Channel channel = PlayerChannels.INSTANCE.get(player);
+        if (channel != null) {
+            PlayerChannels.INSTANCE.send(channel, packet);
+        } else {
+            // The buffer would be leaked if it was never written
+            ReferenceCountUtil.release(packet);
+        }
+    }
+
+    @Override
+    protected <T> void send(Player player, List<T> packets) {
+
+        Channel channel = PlayerChannels.INSTANCE.get(player);
+        if (channel != null) {
+            PlayerChannels.INSTANCE.send(channel, packets);
+            return;
+        }
+
+        for (int i = 0, size = packets.size(); i < size; i++) {
+            ReferenceCountUtil.release(packets.get(i));
+        }
+    }
+
+    @Override
+    protected Object share(Object packet) {
+        // A duplicate has its own reader index so each channel can read
+        // it fully, but it shares the reference count of the original
+        return ((ByteBuf) packet).duplicate().retain();
+    }
+
+    @Override
+    protected <T> List<T> share(List<T> packets) {
+
+        List<T> shared = new ArrayList<>(packets.size());
+        for (T packet : packets) {
+            shared.add((T) this.share(packet));
+        }
+
+        return shared;
+    }
+
+    @Override
+    protected int sizeOf(Object packet) {
+        return ((ByteBuf) packet).readableBytes();
+    }
+
+    @Override
+    protected void release(Object packet) {
+        ReferenceCountUtil.release(packet);
+    }
+
+    private static int getId(Packet<?> packet) {
+
+        try {
+            return EnumProtocol.PLAY.a(EnumProtocolDirection.CLIENTBOUND, packet);
+        } catch (Exception e) {
+            Logger.severe(e);
+            throw new UnsupportedOperationException("Could not find the ID for " + packet.getClass().getSimpleName());
+        }
+    }
+}
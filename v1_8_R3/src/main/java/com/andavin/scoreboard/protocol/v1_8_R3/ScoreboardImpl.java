@@ -1,15 +1,18 @@
 package com.andavin.scoreboard.protocol.v1_8_R3;
 
+import com.andavin.scoreboard.protocol.DispatchMode;
 import com.andavin.scoreboard.protocol.Scoreboard;
 import com.andavin.scoreboard.util.Reflection;
+import io.netty.channel.Channel;
 import net.minecraft.server.v1_8_R3.IScoreboardCriteria.EnumScoreboardHealthDisplay;
 import net.minecraft.server.v1_8_R3.*;
 import net.minecraft.server.v1_8_R3.PacketPlayOutScoreboardScore.EnumScoreboardAction;
 import org.bukkit.craftbukkit.v1_8_R3.entity.CraftPlayer;
 import org.bukkit.entity.Player;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -17,63 +20,79 @@ import java.util.List;
  *
  * @author Andavin
  */
-@SuppressWarnings("Duplicates")
+@SuppressWarnings({ "Duplicates", "unchecked" })
 public class ScoreboardImpl extends Scoreboard {
 
     // Objective Fields
-    private static final Field OBJ_NAME = Reflection.getField(PacketPlayOutScoreboardObjective.class, "a");
-    private static final Field DISPLAY = Reflection.getField(PacketPlayOutScoreboardObjective.class, "b");
-    private static final Field HEALTH_DISPLAY = Reflection.getField(PacketPlayOutScoreboardObjective.class, "c");
-    private static final Field ACTION = Reflection.getField(PacketPlayOutScoreboardObjective.class, "d");
+    private static final MethodHandle OBJ_NAME = Reflection.getSetter(PacketPlayOutScoreboardObjective.class, "a");
+    private static final MethodHandle DISPLAY = Reflection.getSetter(PacketPlayOutScoreboardObjective.class, "b");
+    private static final MethodHandle HEALTH_DISPLAY = Reflection.getSetter(PacketPlayOutScoreboardObjective.class, "c");
+    private static final MethodHandle ACTION = Reflection.getSetter(PacketPlayOutScoreboardObjective.class, "d");
     // Objective Slot Fields
-    private static final Field SLOT = Reflection.getField(PacketPlayOutScoreboardDisplayObjective.class, "a");
-    private static final Field OBJ_NAME_1 = Reflection.getField(PacketPlayOutScoreboardDisplayObjective.class, "b");
+    private static final MethodHandle SLOT = Reflection.getSetter(PacketPlayOutScoreboardDisplayObjective.class, "a");
+    private static final MethodHandle OBJ_NAME_1 = Reflection.getSetter(PacketPlayOutScoreboardDisplayObjective.class, "b");
     // Score Fields
-    private static final Field OBJ_NAME_2 = Reflection.getField(PacketPlayOutScoreboardScore.class, "b");
-    private static final Field SCORE = Reflection.getField(PacketPlayOutScoreboardScore.class, "c");
-    private static final Field ACTION_1 = Reflection.getField(PacketPlayOutScoreboardScore.class, "d");
+    private static final MethodHandle OBJ_NAME_2 = Reflection.getSetter(PacketPlayOutScoreboardScore.class, "b");
+    private static final MethodHandle SCORE = Reflection.getSetter(PacketPlayOutScoreboardScore.class, "c");
+    private static final MethodHandle ACTION_1 = Reflection.getSetter(PacketPlayOutScoreboardScore.class, "d");
     // Team Fields
-    private static final Field TEAM_NAME = Reflection.getField(PacketPlayOutScoreboardTeam.class, "a");
-    private static final Field DISPLAY_NAME = Reflection.getField(PacketPlayOutScoreboardTeam.class, "b");
-    private static final Field PREFIX = Reflection.getField(PacketPlayOutScoreboardTeam.class, "c");
-    private static final Field SUFFIX = Reflection.getField(PacketPlayOutScoreboardTeam.class, "d");
-    private static final Field ENTRIES = Reflection.getField(PacketPlayOutScoreboardTeam.class, "g");
-    private static final Field ACTION_2 = Reflection.getField(PacketPlayOutScoreboardTeam.class, "h");
+    private static final MethodHandle TEAM_NAME = Reflection.getSetter(PacketPlayOutScoreboardTeam.class, "a");
+    private static final MethodHandle DISPLAY_NAME = Reflection.getSetter(PacketPlayOutScoreboardTeam.class, "b");
+    private static final MethodHandle PREFIX = Reflection.getSetter(PacketPlayOutScoreboardTeam.class, "c");
+    private static final MethodHandle SUFFIX = Reflection.getSetter(PacketPlayOutScoreboardTeam.class, "d");
+    private static final MethodHandle ENTRIES = Reflection.getGetter(PacketPlayOutScoreboardTeam.class, "g");
+    private static final MethodHandle ACTION_2 = Reflection.getSetter(PacketPlayOutScoreboardTeam.class, "h");
 
     @Override
     protected Object createObjectivePacket(String objName, String displayName, int actionId) {
+
         PacketPlayOutScoreboardObjective packet = new PacketPlayOutScoreboardObjective();
-        Reflection.setValue(OBJ_NAME, packet, objName);
-        Reflection.setValue(DISPLAY, packet, displayName);
-        Reflection.setValue(HEALTH_DISPLAY, packet, EnumScoreboardHealthDisplay.INTEGER);
-        Reflection.setValue(ACTION, packet, actionId);
+        try {
+            OBJ_NAME.invokeExact(packet, objName);
+            DISPLAY.invokeExact(packet, displayName);
+            HEALTH_DISPLAY.invokeExact(packet, EnumScoreboardHealthDisplay.INTEGER);
+            ACTION.invokeExact(packet, actionId);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create objective packet.", e);
+        }
+
         return packet;
     }
 
     @Override
     protected Object createDisplaySlotPacket(String objName, int displaySlot) {
+
         PacketPlayOutScoreboardDisplayObjective packet = new PacketPlayOutScoreboardDisplayObjective();
-        Reflection.setValue(SLOT, packet, displaySlot);
-        Reflection.setValue(OBJ_NAME_1, packet, objName);
+        try {
+            SLOT.invokeExact(packet, displaySlot);
+            OBJ_NAME_1.invokeExact(packet, objName);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create display slot packet.", e);
+        }
+
         return packet;
     }
 
     @Override
     protected Object createTeamPacket(String name, String displayName, String prefix,
-                                      String suffix, int action, String member) {
+                                      String suffix, int action, String... members) {
 
         PacketPlayOutScoreboardTeam packet = new PacketPlayOutScoreboardTeam();
-        Reflection.setValue(TEAM_NAME, packet, name);
-        Reflection.setValue(ACTION_2, packet, action);
-        if (action == 0 || action == 2) { // Create or update
-            Reflection.setValue(DISPLAY_NAME, packet, displayName);
-            Reflection.setValue(PREFIX, packet, prefix);
-            Reflection.setValue(SUFFIX, packet, suffix);
-        }
+        try {
+
+            TEAM_NAME.invokeExact(packet, name);
+            ACTION_2.invokeExact(packet, action);
+            if (action == 0 || action == 2) { // Create or update
+                DISPLAY_NAME.invokeExact(packet, displayName);
+                PREFIX.invokeExact(packet, prefix);
+                SUFFIX.invokeExact(packet, suffix);
+            }
 
-        if (action == 0 || action == 3 || action == 4) {
-            //noinspection ConstantConditions
-            Reflection.<Collection<String>>getValue(ENTRIES, packet).add(member);
+            if (action == 0 || action == 3 || action == 4) {
+                Collections.addAll((Collection<String>) ENTRIES.invokeExact(packet), members);
+            }
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create team packet.", e);
         }
 
         return packet;
@@ -81,23 +100,45 @@ public class ScoreboardImpl extends Scoreboard {
 
     @Override
     protected Object createAddPacket(String objName, String line, int score) {
+
         // Set as many fields as possible using regular Java (just one)
         PacketPlayOutScoreboardScore packet = new PacketPlayOutScoreboardScore(line);
-        Reflection.setValue(OBJ_NAME_2, packet, objName);
-        Reflection.setValue(SCORE, packet, score);
-        Reflection.setValue(ACTION_1, packet, EnumScoreboardAction.CHANGE);
+        try {
+            OBJ_NAME_2.invokeExact(packet, objName);
+            SCORE.invokeExact(packet, score);
+            ACTION_1.invokeExact(packet, EnumScoreboardAction.CHANGE);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create score packet.", e);
+        }
+
         return packet;
     }
 
     @Override
     protected Object createRemovePacket(String objName, String line) {
-        PacketPlayOutScoreboardScore score = new PacketPlayOutScoreboardScore(line);
-        Reflection.setValue(OBJ_NAME_2, score, objName);
-        return score;
+
+        PacketPlayOutScoreboardScore packet = new PacketPlayOutScoreboardScore(line);
+        try {
+            OBJ_NAME_2.invokeExact(packet, objName);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create score packet.", e);
+        }
+
+        return packet;
     }
 
     @Override
     protected void send(Player player, Object packet) {
+
+        if (Scoreboard.getDispatchMode() == DispatchMode.ASYNC) {
+
+            Channel channel = PlayerChannels.INSTANCE.get(player);
+            if (channel != null) {
+                PlayerChannels.INSTANCE.send(channel, packet);
+                return;
+            }
+        }
+
         // If this method is called while the player is still initializing
         // then the player connection could be null
         PlayerConnection conn = ((CraftPlayer) player).getHandle().playerConnection;
@@ -109,9 +150,21 @@ public class ScoreboardImpl extends Scoreboard {
     @Override
     protected <T> void send(Player player, List<T> packets) {
 
+        // Write the whole batch and flush it once, either from this
+        // thread (SYNC) or as one task on the event loop (ASYNC)
+        Channel channel = PlayerChannels.INSTANCE.get(player);
+        if (channel != null) {
+            PlayerChannels.INSTANCE.send(channel, packets);
+            return;
+        }
+
+        // Let the connection queue the packets until it is ready
         PlayerConnection conn = ((CraftPlayer) player).getHandle().playerConnection;
         if (conn != null) {
-            packets.stream().map(Packet.class::cast).forEach(conn::sendPacket);
+
+            for (int i = 0, size = packets.size(); i < size; i++) {
+                conn.sendPacket((Packet) packets.get(i));
+            }
         }
     }
 }